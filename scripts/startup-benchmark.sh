@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+# Compares startup time and resident memory of the JVM jar, the AOT + CDS build and the native image.
+#
+#   ./mvnw -Pcds package      # target/*-exec.jar, target/cds/application.jsa
+#   ./mvnw -Pnative native:compile
+#   scripts/startup-benchmark.sh              # print the table
+#   UPDATE_HELP=1 scripts/startup-benchmark.sh  # also replace the recorded table in HELP.md
+#
+# Each variant is started with the prod profile, timed until Spring Boot logs "Started",
+# sampled for RSS and then stopped. The averages are printed as a Markdown table for HELP.md.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+TARGET=target
+JAR=$(ls "$TARGET"/*-exec.jar 2>/dev/null || ls "$TARGET"/*.jar | head -n 1)
+PLAIN_JAR=$(ls "$TARGET"/*.jar | grep -v -- '-exec.jar' | head -n 1)
+NATIVE=$TARGET/Sprint-2-test
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+
+measure() {
+    local name=$1
+    shift
+    local total_ms=0 total_rss=0
+    for _ in $(seq "$RUNS"); do
+        local log
+        log=$(mktemp)
+        local start
+        start=$(date +%s%N)
+        "$@" --server.port="$PORT" --spring.profiles.active=prod >"$log" 2>&1 &
+        local pid=$!
+        until grep -q "Started BackendApplication" "$log"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$name failed to start, see $log" >&2
+                return 1
+            fi
+            sleep 0.05
+        done
+        local elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+        local rss
+        rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+        rm -f "$log"
+        total_ms=$((total_ms + elapsed))
+        total_rss=$((total_rss + rss))
+    done
+    printf '| %s | %d | %d |\n' "$name" $((total_ms / RUNS)) $((total_rss / RUNS / 1024))
+}
+
+report() {
+    echo "Measured on $(uname -sm), $(java -version 2>&1 | head -n 1), average of $RUNS runs:"
+    echo
+    echo "| Variant | Startup (ms) | RSS (MiB) |"
+    echo "|---|---|---|"
+
+    measure jvm java -jar "$JAR"
+
+    if [ -f "$TARGET/cds/application.jsa" ]; then
+        (cd "$TARGET/cds" && measure aot+cds java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+            -cp "../$(basename "$PLAIN_JAR"):lib/*" kdu.ibe.backend.BackendApplication)
+    fi
+
+    if [ -x "$NATIVE" ]; then
+        measure native "$NATIVE"
+    fi
+}
+
+TABLE=$(mktemp)
+report | tee "$TABLE"
+
+if [ "${UPDATE_HELP:-0}" = 1 ]; then
+    awk -v table="$TABLE" '
+        /<!-- startup-benchmark:start -->/ { print; while ((getline line < table) > 0) print line; skip = 1; next }
+        /<!-- startup-benchmark:end -->/ { skip = 0 }
+        !skip
+    ' HELP.md >HELP.md.tmp
+    mv HELP.md.tmp HELP.md
+fi
+rm -f "$TABLE"
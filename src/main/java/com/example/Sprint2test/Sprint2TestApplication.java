@@ -1,14 +0,0 @@
-package com.example.Sprint2test;
-
-import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
-
-@SpringBootApplication
-public class Sprint2TestApplication {
-
-	public static void main(String[] args) {
-
-		SpringApplication.run(Sprint2TestApplication.class, args);
-	}
-
-}
@@ -1,11 +1,16 @@
 package kdu.ibe.backend;
 
+import kdu.ibe.backend.configurations.NativeRuntimeHints;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 @Slf4j
 public class BackendApplication {
 	public static void main(String[] args) {
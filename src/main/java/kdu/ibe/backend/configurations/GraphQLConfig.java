@@ -0,0 +1,20 @@
+package kdu.ibe.backend.configurations;
+
+import graphql.scalars.ExtendedScalars;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+
+@Configuration
+public class GraphQLConfig {
+
+    /**
+     * Defines a bean wiring the JSON scalar used for the free-form configuration blocks.
+     *
+     * @return An instance of RuntimeWiringConfigurer registering the JSON scalar.
+     */
+    @Bean
+    public RuntimeWiringConfigurer runtimeWiringConfigurer() {
+        return wiringBuilder -> wiringBuilder.scalar(ExtendedScalars.Json);
+    }
+}
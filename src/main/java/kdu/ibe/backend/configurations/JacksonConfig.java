@@ -0,0 +1,30 @@
+package kdu.ibe.backend.configurations;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Defines a customizer registering the Blackbird module, which replaces reflective property
+     * access with generated lambdas, when {@code json.blackbird.enabled} is set. Through the
+     * application ObjectMapper it applies to every reader and writer of the shared JsonCodec.
+     * The property is checked at runtime rather than through a bean condition, so it can still be
+     * switched in AOT-processed and native builds.
+     *
+     * @param blackbirdEnabled Whether to register the Blackbird module.
+     * @return An instance of Jackson2ObjectMapperBuilderCustomizer.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer blackbirdCustomizer(@Value("${json.blackbird.enabled:false}") boolean blackbirdEnabled) {
+        return builder -> {
+            if (blackbirdEnabled) {
+                builder.postConfigurer(objectMapper -> objectMapper.registerModule(new BlackbirdModule()));
+            }
+        };
+    }
+}
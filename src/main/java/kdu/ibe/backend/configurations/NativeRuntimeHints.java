@@ -0,0 +1,62 @@
+package kdu.ibe.backend.configurations;
+
+import kdu.ibe.backend.dto.request.DateRangeRequestDto;
+import kdu.ibe.backend.dto.request.PropertyIdRequestDto;
+import kdu.ibe.backend.dto.request.StaySearchRequestDto;
+import kdu.ibe.backend.dto.response.BulkImportResultDto;
+import kdu.ibe.backend.dto.response.DailyRateDto;
+import kdu.ibe.backend.dto.response.ErrorDTO;
+import kdu.ibe.backend.dto.response.GraphQLPropertiesResponse;
+import kdu.ibe.backend.dto.response.GraphQLRoomRatesResponse;
+import kdu.ibe.backend.dto.response.StaySearchResultDto;
+import kdu.ibe.backend.dto.response.TenantDto;
+import kdu.ibe.backend.models.Configuration;
+import kdu.ibe.backend.models.Property;
+import kdu.ibe.backend.models.RoomRate;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Registers the reflection and resource hints a GraalVM native image needs for the Lombok/JPA
+ * models and the classes Jackson and the GraphQL runtime bind by reflection.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> REFLECTIVE_TYPES = List.of(
+            Configuration.class,
+            Property.class,
+            RoomRate.class,
+            DateRangeRequestDto.class,
+            PropertyIdRequestDto.class,
+            StaySearchRequestDto.class,
+            ErrorDTO.class,
+            StaySearchResultDto.class,
+            DailyRateDto.class,
+            TenantDto.class,
+            BulkImportResultDto.class,
+            GraphQLRoomRatesResponse.class,
+            GraphQLRoomRatesResponse.Data.class,
+            GraphQLRoomRatesResponse.PropertyNode.class,
+            GraphQLRoomRatesResponse.RoomTypeNode.class,
+            GraphQLRoomRatesResponse.RoomRateNode.class,
+            GraphQLPropertiesResponse.class,
+            GraphQLPropertiesResponse.Data.class,
+            GraphQLPropertiesResponse.PropertyNode.class);
+
+    /**
+     * Registers the hints.
+     *
+     * @param hints The hints to contribute to.
+     * @param classLoader The class loader in use.
+     */
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : REFLECTIVE_TYPES) {
+            hints.reflection().registerType(type, MemberCategory.values());
+        }
+        hints.resources().registerPattern("graphql/*.graphqls");
+    }
+}
@@ -0,0 +1,33 @@
+package kdu.ibe.backend.configurations;
+
+import kdu.ibe.backend.services.BlobTranslationBundleSource;
+import kdu.ibe.backend.services.FileTranslationBundleSource;
+import kdu.ibe.backend.services.TranslationBundleSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+
+@Configuration
+public class TranslationConfig {
+
+    /**
+     * Defines the translation bundle source selected by {@code translations.source}: "blob" (the
+     * default) or "file", which reads {@code translations.directory}. The property is read when the
+     * bean is created rather than through a bean condition, so it can still be switched at runtime
+     * in AOT-processed and native builds.
+     *
+     * @param environment The environment holding the translation properties.
+     * @return The configured TranslationBundleSource.
+     */
+    @Bean
+    public TranslationBundleSource translationBundleSource(Environment environment) {
+        String source = environment.getProperty("translations.source", "blob");
+        return switch (source) {
+            case "blob" -> new BlobTranslationBundleSource(environment);
+            case "file" -> new FileTranslationBundleSource(Path.of(environment.getRequiredProperty("translations.directory")));
+            default -> throw new IllegalStateException("Unknown translations.source: " + source);
+        };
+    }
+}
@@ -1,7 +1,11 @@
 package kdu.ibe.backend.configurations;
 
+import kdu.ibe.backend.utils.JsonCodec;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -25,4 +29,28 @@ public class WebConfig {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Defines a CBOR message converter backed by the shared codec. Spring Boot puts converter beans
+     * in place of the default converter of the same type, after the JSON converter, so JSON stays
+     * the format for wildcard Accept headers.
+     *
+     * @param jsonCodec The shared codec providing the CBOR ObjectMapper.
+     * @return The CBOR message converter.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(JsonCodec jsonCodec) {
+        return new MappingJackson2CborHttpMessageConverter(jsonCodec.objectMapperFor(MediaType.APPLICATION_CBOR));
+    }
+
+    /**
+     * Defines a Smile message converter backed by the shared codec, replacing the default one.
+     *
+     * @param jsonCodec The shared codec providing the Smile ObjectMapper.
+     * @return The Smile message converter.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(JsonCodec jsonCodec) {
+        return new MappingJackson2SmileHttpMessageConverter(jsonCodec.objectMapperFor(JsonCodec.APPLICATION_SMILE));
+    }
+}
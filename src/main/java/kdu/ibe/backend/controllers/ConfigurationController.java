@@ -1,17 +1,31 @@
 package kdu.ibe.backend.controllers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.servlet.http.HttpServletRequest;
 import kdu.ibe.backend.dto.request.PropertyIdRequestDto;
+import kdu.ibe.backend.dto.response.BulkImportResultDto;
 import kdu.ibe.backend.models.Configuration;
+import kdu.ibe.backend.models.TranslationBundle;
+import kdu.ibe.backend.profiling.ServerTimingFilter;
+import kdu.ibe.backend.services.ConfigurationBulkService;
+import kdu.ibe.backend.services.ConfigurationPayloadService;
 import kdu.ibe.backend.services.ConfigurationService;
+import kdu.ibe.backend.services.TranslationBundleService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.Map;
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/api/v1/configuration")
@@ -62,29 +76,28 @@ public class ConfigurationController {
         }
     }
 
-    @Value("${azure.blob.storage.link.en}")
-    private String blobStorageLinkEn;
+    @Autowired
+    private ConfigurationPayloadService configurationPayloadService;
 
-    @Value("${azure.blob.storage.link.de}")
-    private String blobStorageLinkDe;
+    @Autowired
+    private TranslationBundleService translationBundleService;
 
     /**
      * Retrieve configuration data by property ID.
      *
-     * @param propertyIdRequestDto The request DTO containing the IDs.
+     * The response is JSON by default, or CBOR/Smile when requested via the Accept header.
+     * If the request names a locale, that locale's translation bundle is embedded as "translations".
+     *
+     * @param propertyIdRequestDto The request DTO containing the IDs and optional locale.
+     * @param accept The Accept header used to negotiate the response encoding.
      * @return ResponseEntity containing the configuration data or error status.
      */
     @PostMapping("/property")
-    public ResponseEntity<Map<String, Object>> getConfigurationByPropertyId(@RequestBody PropertyIdRequestDto propertyIdRequestDto) {
+    public ResponseEntity<byte[]> getConfigurationByPropertyId(@RequestBody PropertyIdRequestDto propertyIdRequestDto,
+                                                               @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept) {
         try {
-            Map<String, Object> propertyData = configurationService.getConfigurationById(propertyIdRequestDto.getId(), propertyIdRequestDto.getPropertyId());
-            if (propertyData != null) {
-                propertyData.put("blobStorageLinkEn", blobStorageLinkEn);
-                propertyData.put("blobStorageLinkDe", blobStorageLinkDe);
-                return ResponseEntity.ok(propertyData);
-            } else {
-                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-            }
+            return propertyPayloadResponse(propertyIdRequestDto.getId(), propertyIdRequestDto.getPropertyId(),
+                    propertyIdRequestDto.getLocale(), accept);
         } catch (Exception e) {
             log.error("Error getting configuration by ID and property ID", e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -96,23 +109,100 @@ public class ConfigurationController {
 
 
     @GetMapping("/propertyid")
-    public ResponseEntity<Map<String, Object>> getConfigurationByPropertyId() {
+    public ResponseEntity<byte[]> getConfigurationByPropertyId(@RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept) {
         try {
             Long propertyId = 10L;
             Long id = 1L;
 
-            Map<String, Object> propertyData = configurationService.getConfigurationById(id, propertyId);
-            if (propertyData != null) {
-                propertyData.put("blobStorageLinkEn", blobStorageLinkEn);
-                propertyData.put("blobStorageLinkDe", blobStorageLinkDe);
-                return ResponseEntity.ok(propertyData);
-            } else {
-                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-            }
+            return propertyPayloadResponse(id, propertyId, null, accept);
         } catch (Exception e) {
             log.error("Error getting configuration by ID and property ID", e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * Retrieve the translation bundle of a locale, revalidated by ETag.
+     *
+     * @param locale The locale, e.g. "en".
+     * @param webRequest The current request, checked against the bundle ETag for If-None-Match.
+     * @return ResponseEntity containing the bundle, null if the client's copy is current and NOT_MODIFIED
+     *         has been set, or NOT_FOUND if the locale is not supported.
+     */
+    @GetMapping("/translations/{locale}")
+    public ResponseEntity<byte[]> getTranslationBundle(@PathVariable String locale, WebRequest webRequest) {
+        TranslationBundle bundle = translationBundleService.getBundle(locale);
+        if (bundle == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (bundle.getEtag() != null && webRequest.checkNotModified(bundle.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(bundle.getEtag())
+                .body(bundle.getJson());
+    }
+
+    @Autowired
+    private ConfigurationBulkService configurationBulkService;
+
+    /**
+     * Imports configurations from a newline-delimited JSON body, one {"id": ..., "data": {...}} record
+     * per line. Existing configurations with the same ID are replaced; the import is all-or-nothing.
+     *
+     * @param body The NDJSON request body, read as a stream.
+     * @return ResponseEntity containing the number of imported configurations,
+     *         or BAD_REQUEST if a record is malformed,
+     *         or INTERNAL_SERVER_ERROR if an error occurs.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResultDto> importConfigurations(InputStream body) {
+        try {
+            long imported = configurationBulkService.importConfigurations(body);
+            return ResponseEntity.ok(new BulkImportResultDto(imported));
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            log.error("Invalid configuration import", e);
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("Error importing configurations", e);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Exports every configuration as newline-delimited JSON, streamed as rows are read.
+     * The export runs as an async request bounded by {@code spring.mvc.async.request-timeout}.
+     *
+     * @param request The current request, whose response bypasses the Server-Timing buffer.
+     * @return ResponseEntity streaming one {"id": ..., "data": {...}} record per line.
+     */
+    @GetMapping(value = "/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportConfigurations(HttpServletRequest request) {
+        ServerTimingFilter.disableBuffering(request);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(configurationBulkService::exportConfigurations);
+    }
+
+    private ResponseEntity<byte[]> propertyPayloadResponse(Long id, Long propertyId, String locale, String accept) throws IOException {
+        MediaType mediaType;
+        try {
+            mediaType = configurationPayloadService.selectMediaType(accept);
+        } catch (InvalidMediaTypeException e) {
+            log.warn("Invalid Accept header: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        if (mediaType == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_ACCEPTABLE);
+        }
+        byte[] payload = configurationPayloadService.getPropertyPayload(id, propertyId, mediaType, locale);
+        if (payload != null) {
+            return ResponseEntity.ok().contentType(mediaType).varyBy(HttpHeaders.ACCEPT).body(payload);
+        } else {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
 }
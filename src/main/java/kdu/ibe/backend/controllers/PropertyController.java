@@ -1,9 +1,12 @@
 package kdu.ibe.backend.controllers;
 
 import kdu.ibe.backend.dto.request.DateRangeRequestDto;
+import kdu.ibe.backend.dto.request.StaySearchRequestDto;
+import kdu.ibe.backend.dto.response.StaySearchResultDto;
 import kdu.ibe.backend.models.Property;
 import kdu.ibe.backend.services.ConfigurationService;
 import kdu.ibe.backend.services.PropertyService;
+import kdu.ibe.backend.services.StaySearchService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +29,9 @@ public class PropertyController {
     @Autowired
     private ConfigurationService configurationService;
 
+    @Autowired
+    private StaySearchService staySearchService;
+
     public PropertyController(PropertyService propertyService) {
         this.propertyService = propertyService;
     }
@@ -98,4 +105,28 @@ public class PropertyController {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * Finds the cheapest properties of a tenant for a stay.
+     *
+     * @param id The ID of the tenant.
+     * @param staySearchRequest A DTO containing the check-in and check-out dates, an optional total price ceiling,
+     *                          the number of results and the sort order ("total" or "minimum").
+     * @return ResponseEntity containing the cheapest properties first, BAD_REQUEST for invalid dates, or an error status.
+     */
+    @PostMapping("/tenant/{id}/cheapest-stay")
+    public ResponseEntity<List<StaySearchResultDto>> getCheapestStays(
+            @PathVariable Long id,
+            @RequestBody StaySearchRequestDto staySearchRequest
+    ) {
+        try {
+            return new ResponseEntity<>(staySearchService.findCheapestStays(id, staySearchRequest), HttpStatus.OK);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            log.warn("Invalid cheapest stay search: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("Error searching cheapest stays", e);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package kdu.ibe.backend.controllers;
+
+import graphql.schema.DataFetchingEnvironment;
+import kdu.ibe.backend.dto.response.DailyRateDto;
+import kdu.ibe.backend.dto.response.TenantDto;
+import kdu.ibe.backend.models.Configuration;
+import kdu.ibe.backend.models.Property;
+import kdu.ibe.backend.models.RoomRate;
+import kdu.ibe.backend.services.ConfigurationService;
+import kdu.ibe.backend.services.PropertyService;
+import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * GraphQL read API for tenants, their properties, configuration and rate calendars.
+ * Room rate and configuration lookups are batched, so one query costs at most one upstream
+ * GraphQL call and one repository call regardless of how many properties it touches.
+ */
+@Controller
+@Slf4j
+public class TenantGraphQLController {
+    private static final String ROOM_RATES_LOADER = "roomRates";
+
+    private final PropertyService propertyService;
+    private final ConfigurationService configurationService;
+
+    /**
+     * Constructor for TenantGraphQLController.
+     *
+     * @param propertyService The service providing properties and room rates.
+     * @param configurationService The service providing configurations.
+     * @param batchLoaderRegistry The registry the room rate DataLoader is registered with.
+     */
+    public TenantGraphQLController(PropertyService propertyService, ConfigurationService configurationService,
+                                   BatchLoaderRegistry batchLoaderRegistry) {
+        this.propertyService = propertyService;
+        this.configurationService = configurationService;
+        batchLoaderRegistry.<Long, List<RoomRate>>forName(ROOM_RATES_LOADER)
+                .registerMappedBatchLoader((propertyIds, environment) -> Mono.fromCallable(() -> propertyService.getRoomRates(propertyIds)));
+    }
+
+    /**
+     * Resolves a tenant by ID.
+     *
+     * @param id The ID of the tenant.
+     * @return The tenant source object.
+     */
+    @QueryMapping
+    public TenantDto tenant(@Argument Long id) {
+        return new TenantDto(id);
+    }
+
+    /**
+     * Resolves the global configuration block of a tenant.
+     *
+     * @param tenant The tenant.
+     * @return The global configuration data, or null if the tenant has no configuration.
+     */
+    @SchemaMapping(typeName = "Tenant", field = "global")
+    public Map<String, Object> global(TenantDto tenant) {
+        return configurationService.getGlobalConfigurationData(tenant.id());
+    }
+
+    /**
+     * Resolves the properties of a tenant from the cached tenant listing.
+     *
+     * @param tenant The tenant.
+     * @return The properties of the tenant.
+     * @throws IOException If the upstream GraphQL query fails.
+     */
+    @SchemaMapping(typeName = "Tenant", field = "properties")
+    public List<Property> properties(TenantDto tenant) throws IOException {
+        return propertyService.getProperties(tenant.id());
+    }
+
+    /**
+     * Resolves the property-specific configuration block of every requested property with a single
+     * lookup of the owning tenants' configurations.
+     *
+     * @param properties The properties in the query.
+     * @return The configuration data keyed by property.
+     */
+    @BatchMapping(typeName = "Property", field = "configuration")
+    public Map<Property, Object> configuration(List<Property> properties) {
+        Set<Long> tenantIds = properties.stream()
+                .map(property -> Long.valueOf(property.getTenant_id()))
+                .collect(Collectors.toSet());
+        Map<Long, Configuration> configurations = configurationService.getConfigurations(tenantIds);
+
+        Map<Property, Object> result = new LinkedHashMap<>();
+        for (Property property : properties) {
+            Configuration configuration = configurations.get(Long.valueOf(property.getTenant_id()));
+            result.put(property, propertyConfigurationData(configuration, property.getProperty_id()));
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the minimum nightly rate calendar of a property. Room rates of all properties in the
+     * query are loaded through one DataLoader batch.
+     *
+     * @param property The property.
+     * @param startDate The first date of the range in the format "yyyy-MM-dd", inclusive.
+     * @param endDate The last date of the range in the format "yyyy-MM-dd", inclusive.
+     * @param environment The data fetching environment holding the DataLoaders of the request.
+     * @return The minimum nightly rate per date, ordered by date.
+     */
+    @SchemaMapping(typeName = "Property", field = "calendar")
+    public CompletableFuture<List<DailyRateDto>> calendar(Property property, @Argument String startDate,
+                                                          @Argument String endDate, DataFetchingEnvironment environment) {
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+        DataLoader<Long, List<RoomRate>> roomRatesLoader = environment.getDataLoader(ROOM_RATES_LOADER);
+        return roomRatesLoader.load(property.getProperty_id()).thenApply(roomRates -> {
+            Map<LocalDate, Double> minNightRates = new TreeMap<>(propertyService.getMinimumNightRate(roomRates, start, end));
+            List<DailyRateDto> calendar = new ArrayList<>(minNightRates.size());
+            minNightRates.forEach((date, rate) -> calendar.add(new DailyRateDto(date.toString(), rate)));
+            return calendar;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object propertyConfigurationData(Configuration configuration, Long propertyId) {
+        if (configuration == null || configuration.getData() == null) {
+            return null;
+        }
+        Map<String, Object> propertyData = (Map<String, Object>) configuration.getData().get("properties");
+        return propertyData != null ? propertyData.get(String.valueOf(propertyId)) : null;
+    }
+}
@@ -10,5 +10,6 @@ import lombok.NoArgsConstructor;
 public class PropertyIdRequestDto {
     private Long id;
     private Long propertyId;
+    private String locale;
 
 }
@@ -0,0 +1,16 @@
+package kdu.ibe.backend.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StaySearchRequestDto {
+    private String checkIn;
+    private String checkOut;
+    private Double maxPrice;
+    private Integer limit;
+    private String sortBy;
+}
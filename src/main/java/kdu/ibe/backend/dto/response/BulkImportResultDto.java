@@ -0,0 +1,12 @@
+package kdu.ibe.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkImportResultDto {
+    private long imported;
+}
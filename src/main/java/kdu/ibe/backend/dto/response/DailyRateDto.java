@@ -0,0 +1,7 @@
+package kdu.ibe.backend.dto.response;
+
+/**
+ * Minimum nightly rate of a property on a single date.
+ */
+public record DailyRateDto(String date, double minimumRate) {
+}
@@ -0,0 +1,15 @@
+package kdu.ibe.backend.dto.response;
+
+import java.util.List;
+
+/**
+ * Typed shape of the upstream GraphQL response for the properties of a tenant.
+ */
+public record GraphQLPropertiesResponse(Data data) {
+
+    public record Data(List<PropertyNode> listProperties) {
+    }
+
+    public record PropertyNode(Long property_id, String property_name, String tenant_id) {
+    }
+}
@@ -0,0 +1,23 @@
+package kdu.ibe.backend.dto.response;
+
+import kdu.ibe.backend.models.RoomRate;
+
+import java.util.List;
+
+/**
+ * Typed shape of the upstream GraphQL response for the room rates of a property.
+ */
+public record GraphQLRoomRatesResponse(Data data) {
+
+    public record Data(List<PropertyNode> listProperties) {
+    }
+
+    public record PropertyNode(Long property_id, List<RoomTypeNode> room_type) {
+    }
+
+    public record RoomTypeNode(List<RoomRateNode> room_rates) {
+    }
+
+    public record RoomRateNode(RoomRate room_rate) {
+    }
+}
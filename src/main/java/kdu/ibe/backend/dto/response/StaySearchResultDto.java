@@ -0,0 +1,15 @@
+package kdu.ibe.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StaySearchResultDto {
+    private Long propertyId;
+    private String propertyName;
+    private double totalPrice;
+    private double minimumNightlyRate;
+}
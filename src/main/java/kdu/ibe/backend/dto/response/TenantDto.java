@@ -0,0 +1,7 @@
+package kdu.ibe.backend.dto.response;
+
+/**
+ * GraphQL source object for a tenant; its fields are resolved lazily from the tenant ID.
+ */
+public record TenantDto(Long id) {
+}
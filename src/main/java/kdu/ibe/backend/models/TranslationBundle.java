@@ -0,0 +1,14 @@
+package kdu.ibe.backend.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TranslationBundle {
+    private String locale;
+    private byte[] json;
+    private String etag;
+}
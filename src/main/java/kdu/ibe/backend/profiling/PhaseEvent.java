@@ -0,0 +1,31 @@
+package kdu.ibe.backend.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event covering one phase of a request, e.g. the upstream GraphQL call or
+ * response serialization. Recorded with {@code -XX:StartFlightRecording} or via JMC/jcmd.
+ */
+@Name("kdu.ibe.backend.Phase")
+@Label("Request Phase")
+@Category("IBE Backend")
+@Description("Duration of one phase of an API request")
+@StackTrace(false)
+public class PhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Request URI")
+    String requestUri;
+
+    PhaseEvent(String phase, String requestUri) {
+        this.phase = phase;
+        this.requestUri = requestUri;
+    }
+}
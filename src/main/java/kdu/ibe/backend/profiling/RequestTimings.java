@@ -0,0 +1,112 @@
+package kdu.ibe.backend.profiling;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-request phase timings. Every phase emits a {@link PhaseEvent}; phases that run on the request
+ * thread are also summed per name for the Server-Timing header.
+ * <p>
+ * Usage: {@code try (RequestTimings.Phase phase = RequestTimings.phase("graphql")) { ... }}
+ */
+public final class RequestTimings {
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    private RequestTimings() {
+    }
+
+    /**
+     * Starts collecting timings for the request handled by the current thread.
+     *
+     * @param requestUri The URI of the request, attached to every event.
+     */
+    public static void begin(String requestUri) {
+        CURRENT.set(new Context(requestUri));
+    }
+
+    /**
+     * Stops collecting timings for the current thread.
+     *
+     * @return The summed duration in nanoseconds of each phase, in the order the phases first ran.
+     */
+    public static Map<String, Long> end() {
+        Context context = CURRENT.get();
+        CURRENT.remove();
+        return context != null ? context.durations : Map.of();
+    }
+
+    /**
+     * Starts a phase that ends when the returned handle is closed.
+     *
+     * @param name The name of the phase.
+     * @return The phase handle.
+     */
+    public static Phase phase(String name) {
+        return new Phase(name, CURRENT.get());
+    }
+
+    /**
+     * Starts a phase that is ended from a different call site with {@link #finish(String)}.
+     *
+     * @param name The name of the phase.
+     */
+    public static void start(String name) {
+        Context context = CURRENT.get();
+        if (context != null) {
+            context.openPhases.put(name, new Phase(name, context));
+        }
+    }
+
+    /**
+     * Ends a phase started with {@link #start(String)}; does nothing if it was not started.
+     *
+     * @param name The name of the phase.
+     */
+    public static void finish(String name) {
+        Context context = CURRENT.get();
+        if (context != null) {
+            Phase phase = context.openPhases.remove(name);
+            if (phase != null) {
+                phase.close();
+            }
+        }
+    }
+
+    /**
+     * A running phase.
+     */
+    public static final class Phase implements AutoCloseable {
+        private final String name;
+        private final Context context;
+        private final PhaseEvent event;
+        private final long start;
+
+        private Phase(String name, Context context) {
+            this.name = name;
+            this.context = context;
+            this.event = new PhaseEvent(name, context != null ? context.requestUri : null);
+            this.event.begin();
+            this.start = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            long duration = System.nanoTime() - start;
+            event.commit();
+            if (context != null) {
+                context.durations.merge(name, duration, Long::sum);
+            }
+        }
+    }
+
+    private static final class Context {
+        private final String requestUri;
+        private final Map<String, Long> durations = new LinkedHashMap<>();
+        private final Map<String, Phase> openPhases = new HashMap<>();
+
+        private Context(String requestUri) {
+            this.requestUri = requestUri;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package kdu.ibe.backend.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Filter that collects the phase timings of each request and, when {@code server-timing.enabled}
+ * is set, reports them in a Server-Timing response header. The response body is buffered in that
+ * case so the header can still be added after serialization.
+ * <p>
+ * Like {@code ShallowEtagHeaderFilter}, the filter also runs on async dispatches: timings of the
+ * initial dispatch are carried over in a request attribute, and the header is written and the body
+ * copied only once the request has completed. Handlers that stream a response body can call
+ * {@link #disableBuffering(ServletRequest)} to write straight to the client instead.
+ */
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+    static final String RESPONSE_WRITE_PHASE = "response-write";
+    private static final String START_ATTRIBUTE = ServerTimingFilter.class.getName() + ".START";
+    private static final String DURATIONS_ATTRIBUTE = ServerTimingFilter.class.getName() + ".DURATIONS";
+    private static final String BUFFERING_DISABLED_ATTRIBUTE = ServerTimingFilter.class.getName() + ".BUFFERING_DISABLED";
+
+    @Value("${server-timing.enabled:false}")
+    private boolean serverTimingEnabled;
+
+    /**
+     * Lets the response body of the given request bypass the buffer, e.g. for a streamed response that
+     * must reach the client while it is being written. Such responses carry no Server-Timing header.
+     *
+     * @param request The current request.
+     */
+    public static void disableBuffering(ServletRequest request) {
+        request.setAttribute(BUFFERING_DISABLED_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!isAsyncDispatch(request)) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        ServerTimingResponseWrapper responseWrapper = null;
+        if (serverTimingEnabled) {
+            responseWrapper = WebUtils.getNativeResponse(response, ServerTimingResponseWrapper.class);
+            if (responseWrapper == null) {
+                responseWrapper = new ServerTimingResponseWrapper(request, response);
+            }
+        }
+        RequestTimings.begin(request.getRequestURI());
+        try {
+            filterChain.doFilter(request, responseWrapper != null ? responseWrapper : response);
+        } finally {
+            RequestTimings.finish(RESPONSE_WRITE_PHASE);
+            Map<String, Long> durations = mergeDurations(request, RequestTimings.end());
+            if (request.isAsyncStarted()) {
+                request.setAttribute(DURATIONS_ATTRIBUTE, durations);
+            } else if (responseWrapper != null) {
+                long start = (Long) request.getAttribute(START_ATTRIBUTE);
+                responseWrapper.setHeader("Server-Timing", serverTiming(durations, System.nanoTime() - start));
+                responseWrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> mergeDurations(HttpServletRequest request, Map<String, Long> durations) {
+        Map<String, Long> previous = (Map<String, Long>) request.getAttribute(DURATIONS_ATTRIBUTE);
+        if (previous == null) {
+            return durations;
+        }
+        Map<String, Long> merged = new LinkedHashMap<>(previous);
+        durations.forEach((phase, duration) -> merged.merge(phase, duration, Long::sum));
+        return merged;
+    }
+
+    private static String serverTiming(Map<String, Long> durations, long total) {
+        StringJoiner header = new StringJoiner(", ");
+        durations.forEach((phase, duration) -> header.add(metric(phase, duration)));
+        header.add(metric("total", total));
+        return header.toString();
+    }
+
+    private static String metric(String name, long nanos) {
+        return String.format(Locale.ROOT, "%s;dur=%.3f", name, nanos / 1_000_000.0);
+    }
+
+    /**
+     * Buffers the response body unless buffering was disabled for the request.
+     */
+    private static final class ServerTimingResponseWrapper extends ContentCachingResponseWrapper {
+        private final HttpServletRequest request;
+
+        private ServerTimingResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return isBufferingDisabled() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return isBufferingDisabled() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        private boolean isBufferingDisabled() {
+            return request.getAttribute(BUFFERING_DISABLED_ATTRIBUTE) != null;
+        }
+    }
+}
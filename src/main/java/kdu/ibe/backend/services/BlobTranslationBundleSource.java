@@ -0,0 +1,64 @@
+package kdu.ibe.backend.services;
+
+import kdu.ibe.backend.models.TranslationBundle;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+
+/**
+ * Fetches translation bundles from the blob storage links configured as
+ * {@code azure.blob.storage.link.<locale>}, revalidating with If-None-Match.
+ * Selected by {@code translations.source=blob}, the default; see {@code TranslationConfig}.
+ * Requests time out after {@code translations.blob.connect-timeout-ms} and
+ * {@code translations.blob.read-timeout-ms}, so a stalled blob store cannot hold up a first load.
+ */
+public class BlobTranslationBundleSource implements TranslationBundleSource {
+    private static final String LINK_PROPERTY_PREFIX = "azure.blob.storage.link.";
+
+    RestTemplate restTemplate;
+
+    private final Environment environment;
+
+    /**
+     * Constructor for BlobTranslationBundleSource.
+     *
+     * @param environment The environment holding the blob storage links.
+     */
+    public BlobTranslationBundleSource(Environment environment) {
+        this.environment = environment;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(environment.getProperty("translations.blob.connect-timeout-ms", Integer.class, 2000));
+        requestFactory.setReadTimeout(environment.getProperty("translations.blob.read-timeout-ms", Integer.class, 5000));
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @Override
+    public TranslationBundle fetch(String locale, String etag) throws IOException {
+        String link = environment.getProperty(LINK_PROPERTY_PREFIX + locale);
+        if (link == null) {
+            throw new IOException("No blob storage link configured for locale " + locale);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        if (etag != null) {
+            headers.setIfNoneMatch(etag);
+        }
+        try {
+            ResponseEntity<byte[]> response = restTemplate.exchange(link, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                return null;
+            }
+            return new TranslationBundle(locale, response.getBody(), response.getHeaders().getETag());
+        } catch (RestClientException e) {
+            throw new IOException("Error fetching translation bundle for locale " + locale, e);
+        }
+    }
+}
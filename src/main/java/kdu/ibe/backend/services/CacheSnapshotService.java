@@ -0,0 +1,120 @@
+package kdu.ibe.backend.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kdu.ibe.backend.utils.CacheSnapshot;
+import kdu.ibe.backend.utils.JsonCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service that checkpoints the room rate and configuration caches to a local snapshot file,
+ * restores them on startup and reconciles them against their sources in the background.
+ */
+@Service
+@Slf4j
+public class CacheSnapshotService {
+
+    private final PropertyService propertyService;
+    private final ConfigurationService configurationService;
+    private final JsonCodec jsonCodec;
+
+    @Value("${cache.snapshot.enabled:true}")
+    private boolean snapshotEnabled;
+
+    @Value("${cache.snapshot.path:cache/ibe-cache.snapshot}")
+    private Path snapshotPath;
+
+    @Value("${cache.reconcile.batch-size:50}")
+    private int reconcileBatchSize;
+
+    /**
+     * Constructor for CacheSnapshotService.
+     *
+     * @param propertyService The service owning the room rate cache.
+     * @param configurationService The service owning the configuration cache.
+     * @param jsonCodec The shared codec used to encode configuration data in the snapshot.
+     */
+    public CacheSnapshotService(PropertyService propertyService, ConfigurationService configurationService,
+                                JsonCodec jsonCodec) {
+        this.propertyService = propertyService;
+        this.configurationService = configurationService;
+        this.jsonCodec = jsonCodec;
+    }
+
+    /**
+     * Seeds the caches from the last snapshot so that a restarted node serves warm data immediately.
+     * Restored entries are refreshed by the next {@link #reconcile()} run.
+     */
+    @PostConstruct
+    public void restore() {
+        if (!snapshotEnabled || !Files.isReadable(snapshotPath)) {
+            return;
+        }
+        try {
+            CacheSnapshot snapshot = CacheSnapshot.readFrom(snapshotPath, jsonCodec);
+            propertyService.restoreRoomRates(snapshot.getRoomRates());
+            configurationService.restoreConfigurations(snapshot.getConfigurations());
+            log.info("Restored cache snapshot with {} properties and {} configurations",
+                    snapshot.getRoomRates().size(), snapshot.getConfigurations().size());
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable cache snapshot {}", snapshotPath, e);
+        }
+    }
+
+    /**
+     * Periodically writes the current cache contents to the snapshot file.
+     */
+    @Scheduled(initialDelayString = "${cache.snapshot.interval-ms:60000}", fixedDelayString = "${cache.snapshot.interval-ms:60000}")
+    public void checkpoint() {
+        if (!snapshotEnabled) {
+            return;
+        }
+        try {
+            CacheSnapshot snapshot = new CacheSnapshot(System.currentTimeMillis(),
+                    propertyService.getCachedRoomRates(), configurationService.getCachedConfigurations());
+            snapshot.writeTo(snapshotPath, jsonCodec);
+        } catch (IOException e) {
+            log.error("Error writing cache snapshot", e);
+        }
+    }
+
+    /**
+     * Refreshes every cached entry from GraphQL, in queries of {@code cache.reconcile.batch-size}
+     * properties, and from the configuration store. Runs shortly after startup to reconcile
+     * restored data and then periodically to bound staleness.
+     */
+    @Scheduled(initialDelayString = "${cache.reconcile.initial-delay-ms:5000}", fixedDelayString = "${cache.reconcile.interval-ms:300000}")
+    public void reconcile() {
+        List<Long> propertyIds = new ArrayList<>(propertyService.getCachedRoomRates().keySet());
+        for (int from = 0; from < propertyIds.size(); from += reconcileBatchSize) {
+            List<Long> batch = propertyIds.subList(from, Math.min(from + reconcileBatchSize, propertyIds.size()));
+            try {
+                propertyService.refreshRoomRates(batch);
+            } catch (Exception e) {
+                log.warn("Error refreshing room rates for {} properties", batch.size(), e);
+            }
+        }
+        try {
+            configurationService.refreshCachedConfigurations();
+        } catch (Exception e) {
+            log.warn("Error refreshing cached configurations", e);
+        }
+    }
+
+    /**
+     * Writes a final snapshot on shutdown so the next instance starts from the latest state.
+     */
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+}
@@ -0,0 +1,169 @@
+package kdu.ibe.backend.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import kdu.ibe.backend.models.Configuration;
+import kdu.ibe.backend.utils.JsonCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for streaming bulk import and export of configurations as newline-delimited JSON.
+ * <p>
+ * Import decodes one record at a time and upserts them in JDBC batches within a single
+ * transaction. Export streams rows from a server-side cursor straight to the output, so memory
+ * use does not grow with the number of configurations.
+ */
+@Service
+@Slf4j
+public class ConfigurationBulkService {
+    private static final String UPSERT_SQL = "INSERT INTO configuration (id, data) VALUES (?, ?::jsonb) "
+            + "ON CONFLICT (id) DO UPDATE SET data = EXCLUDED.data";
+    private static final String EXPORT_SQL = "SELECT id, data FROM configuration ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate importTransaction;
+    private final TransactionTemplate exportTransaction;
+    private final ConfigurationService configurationService;
+    private final JsonCodec jsonCodec;
+    private final int batchSize;
+    private final int fetchSize;
+
+    /**
+     * Constructor for ConfigurationBulkService.
+     *
+     * @param jdbcTemplate The JDBC template for the configuration store.
+     * @param transactionManager The transaction manager shared with JPA.
+     * @param configurationService The service whose configuration cache is cleared after an import.
+     * @param jsonCodec The shared codec used to read and write records.
+     * @param batchSize The number of records per JDBC batch on import.
+     * @param fetchSize The number of rows fetched per cursor round trip on export.
+     */
+    public ConfigurationBulkService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    ConfigurationService configurationService, JsonCodec jsonCodec,
+                                    @Value("${configuration.bulk.batch-size:500}") int batchSize,
+                                    @Value("${configuration.bulk.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.importTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
+        this.configurationService = configurationService;
+        this.jsonCodec = jsonCodec;
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Upserts every configuration of an NDJSON stream, one {"id": ..., "data": {...}} record per line.
+     * The import is all-or-nothing: an invalid record rolls back every batch written before it.
+     * If an id occurs more than once, the last record wins.
+     *
+     * @param in The NDJSON input.
+     * @return The number of configurations imported.
+     * @throws IOException If the input cannot be read or is not valid JSON.
+     * @throws IllegalArgumentException If a record has no id or no data.
+     */
+    public long importConfigurations(InputStream in) throws IOException {
+        Long imported;
+        try {
+            imported = importTransaction.execute(status -> {
+                try (MappingIterator<Configuration> records = jsonCodec.readConfigurations(in)) {
+                    return upsertAll(records);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            configurationService.clearCachedConfigurations();
+        }
+        return imported != null ? imported : 0;
+    }
+
+    /**
+     * Writes every configuration as an NDJSON record, streaming rows from a read-only cursor.
+     *
+     * @param out The output to write to.
+     */
+    public void exportConfigurations(OutputStream out) {
+        exportTransaction.executeWithoutResult(status -> {
+            try (JsonGenerator generator = jsonCodec.createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                jdbcTemplate.query(con -> {
+                    PreparedStatement statement = con.prepareStatement(EXPORT_SQL);
+                    statement.setFetchSize(fetchSize);
+                    return statement;
+                }, rs -> {
+                    try {
+                        generator.writeStartObject();
+                        generator.writeNumberField("id", rs.getLong("id"));
+                        generator.writeFieldName("data");
+                        String data = rs.getString("data");
+                        if (data != null) {
+                            generator.writeRawValue(data);
+                        } else {
+                            generator.writeNull();
+                        }
+                        generator.writeEndObject();
+                        generator.writeRaw('\n');
+                        if (rs.getRow() % fetchSize == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Upserts the records in batches of distinct ids. PostgreSQL rejects an ON CONFLICT batch that
+     * touches the same row twice once pgjdbc rewrites it into a multi-row insert, so a repeated id
+     * replaces the earlier record of its batch; across batches, the later upsert wins anyway.
+     */
+    private long upsertAll(MappingIterator<Configuration> records) throws IOException {
+        Map<Long, String> batch = new LinkedHashMap<>();
+        long count = 0;
+        while (records.hasNextValue()) {
+            Configuration configuration = records.nextValue();
+            count++;
+            if (configuration.getId() == null || configuration.getData() == null) {
+                throw new IllegalArgumentException("Record " + count + " must have an id and data");
+            }
+            batch.put(configuration.getId(), jsonCodec.writeConfigurationData(configuration.getData()));
+            if (batch.size() == batchSize) {
+                upsertBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            upsertBatch(batch);
+        }
+        log.info("Imported {} configurations", count);
+        return count;
+    }
+
+    private void upsertBatch(Map<Long, String> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        batch.forEach((id, data) -> rows.add(new Object[]{id, data}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+}
@@ -0,0 +1,153 @@
+package kdu.ibe.backend.services;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import kdu.ibe.backend.models.Configuration;
+import kdu.ibe.backend.models.TranslationBundle;
+import kdu.ibe.backend.profiling.RequestTimings;
+import kdu.ibe.backend.utils.JsonCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service that serializes property configuration responses once per configuration version and
+ * media type, so repeat requests for an unchanged configuration skip serialization entirely.
+ */
+@Service
+public class ConfigurationPayloadService {
+    private static final List<MediaType> SUPPORTED_MEDIA_TYPES =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, JsonCodec.APPLICATION_SMILE);
+
+    private final ConfigurationService configurationService;
+    private final JsonCodec jsonCodec;
+    private final TranslationBundleService translationBundleService;
+    private final Map<PayloadKey, CachedPayload> payloadCache = new ConcurrentHashMap<>();
+
+    @Value("${azure.blob.storage.link.en}")
+    private String blobStorageLinkEn;
+
+    @Value("${azure.blob.storage.link.de}")
+    private String blobStorageLinkDe;
+
+    /**
+     * Constructor for ConfigurationPayloadService.
+     *
+     * @param configurationService The service providing configuration data.
+     * @param jsonCodec The shared codec used to serialize payloads.
+     * @param translationBundleService The service providing the translation bundles to embed.
+     */
+    public ConfigurationPayloadService(ConfigurationService configurationService, JsonCodec jsonCodec,
+                                       TranslationBundleService translationBundleService) {
+        this.configurationService = configurationService;
+        this.jsonCodec = jsonCodec;
+        this.translationBundleService = translationBundleService;
+    }
+
+    /**
+     * Selects the response media type for the given Accept header value: the supported type with
+     * the highest quality, preferring JSON on ties. Each supported type takes the quality of the most
+     * specific Accept entry that includes it, so "q=0" refuses a type even when a wildcard allows it.
+     *
+     * @param accept The Accept header value sent by the client.
+     * @return The negotiated media type, or null if none of the supported types is acceptable.
+     * @throws InvalidMediaTypeException If the Accept header cannot be parsed.
+     */
+    public MediaType selectMediaType(String accept) {
+        List<MediaType> acceptable = MediaType.parseMediaTypes(accept);
+        MediaType selected = null;
+        double selectedQuality = 0;
+        for (MediaType supported : SUPPORTED_MEDIA_TYPES) {
+            double quality = quality(supported, acceptable);
+            if (quality > selectedQuality) {
+                selected = supported;
+                selectedQuality = quality;
+            }
+        }
+        return selected;
+    }
+
+    private static double quality(MediaType supported, List<MediaType> acceptable) {
+        MediaType mostSpecific = null;
+        for (MediaType acceptableType : acceptable) {
+            if (acceptableType.includes(supported)
+                    && (mostSpecific == null || specificity(acceptableType) > specificity(mostSpecific))) {
+                mostSpecific = acceptableType;
+            }
+        }
+        return mostSpecific != null ? mostSpecific.getQualityValue() : 0;
+    }
+
+    private static int specificity(MediaType mediaType) {
+        if (mediaType.isWildcardType()) {
+            return 0;
+        }
+        return mediaType.isWildcardSubtype() ? 1 : 2;
+    }
+
+    /**
+     * Returns the serialized global and property configuration for the given property, including the
+     * translation blob links and, if a locale is given, that locale's translation bundle under
+     * "translations". The bytes are cached until the configuration or the embedded bundle changes;
+     * unsupported locales share the entry without translations, so they cannot grow the cache.
+     *
+     * @param id The ID of the configuration.
+     * @param propertyId The ID of the property within the configuration.
+     * @param mediaType One of the media types returned by {@link #selectMediaType(String)}.
+     * @param locale The locale whose translation bundle to embed, or null to embed none.
+     * @return The serialized payload, or null if no data is found.
+     * @throws IOException If the payload cannot be serialized.
+     */
+    public byte[] getPropertyPayload(Long id, Long propertyId, MediaType mediaType, String locale) throws IOException {
+        Configuration configuration = configurationService.getConfiguration(id);
+        if (configuration == null) {
+            return null;
+        }
+        TranslationBundle bundle = translationBundleService.getBundle(locale);
+        PayloadKey key = new PayloadKey(id, propertyId, mediaType, bundle != null ? locale : null);
+        CachedPayload cached = payloadCache.get(key);
+        if (cached != null && cached.source() == configuration && cached.bundle() == bundle) {
+            return cached.bytes();
+        }
+
+        Map<String, Object> propertyData = configurationService.getConfigurationById(id, propertyId);
+        if (propertyData == null) {
+            return null;
+        }
+        propertyData.put("blobStorageLinkEn", blobStorageLinkEn);
+        propertyData.put("blobStorageLinkDe", blobStorageLinkDe);
+        if (bundle != null) {
+            propertyData.put("translations", embeddableBundle(bundle, mediaType));
+        }
+
+        byte[] bytes;
+        try (RequestTimings.Phase phase = RequestTimings.phase("serialize")) {
+            bytes = jsonCodec.writePayload(propertyData, mediaType);
+        }
+        payloadCache.put(key, new CachedPayload(configuration, bundle, bytes));
+        return bytes;
+    }
+
+    /**
+     * JSON payloads embed the bundle bytes verbatim; the binary formats cannot hold raw JSON and
+     * embed the parsed tree instead.
+     */
+    private Object embeddableBundle(TranslationBundle bundle, MediaType mediaType) throws IOException {
+        if (MediaType.APPLICATION_JSON.equals(mediaType)) {
+            return new RawValue(new String(bundle.getJson(), StandardCharsets.UTF_8));
+        }
+        return jsonCodec.objectMapperFor(MediaType.APPLICATION_JSON).readTree(bundle.getJson());
+    }
+
+    private record PayloadKey(Long id, Long propertyId, MediaType mediaType, String locale) {
+    }
+
+    private record CachedPayload(Configuration source, TranslationBundle bundle, byte[] bytes) {
+    }
+}
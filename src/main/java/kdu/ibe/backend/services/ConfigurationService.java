@@ -1,28 +1,43 @@
 package kdu.ibe.backend.services;
 
 import kdu.ibe.backend.models.Configuration;
+import kdu.ibe.backend.profiling.RequestTimings;
 import kdu.ibe.backend.repositories.ConfigurationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service class for managing configurations.
+ * <p>
+ * Configurations are cached per node and reloaded from the repository once older than
+ * {@code cache.configuration.ttl-ms}, which bounds how long a write made on another node stays invisible.
  */
 @Service
 public class ConfigurationService {
 
     private final ConfigurationRepository configurationRepository;
+    private final long ttlMillis;
+    private final Map<Long, CachedConfiguration> configurationCache = new ConcurrentHashMap<>();
     /**
      * Constructor for ConfigurationService.
      *
      * @param configurationRepository The repository for Configuration entities.
+     * @param ttlMillis How long a cached configuration is served before it is reloaded.
      */
     @Autowired
-    public ConfigurationService(ConfigurationRepository configurationRepository) {
+    public ConfigurationService(ConfigurationRepository configurationRepository,
+                                @Value("${cache.configuration.ttl-ms:30000}") long ttlMillis) {
         this.configurationRepository = configurationRepository;
+        this.ttlMillis = ttlMillis;
     }
     /**
      * Save a configuration.
@@ -31,7 +46,12 @@ public class ConfigurationService {
      * @return The saved configuration.
      */
     public Configuration saveConfiguration(Configuration configuration) {
-        return configurationRepository.save(configuration);
+        Configuration savedConfiguration;
+        try (RequestTimings.Phase phase = RequestTimings.phase("db")) {
+            savedConfiguration = configurationRepository.save(configuration);
+        }
+        cache(savedConfiguration);
+        return savedConfiguration;
     }
 
     /**
@@ -43,10 +63,16 @@ public class ConfigurationService {
      *         or null if the configuration with the given ID is not found.
      */
     public Configuration updateConfigurationData(Long id, Configuration newData) {
-        Configuration existingConfiguration = configurationRepository.findById(id).orElse(null);
+        Configuration existingConfiguration;
+        try (RequestTimings.Phase phase = RequestTimings.phase("db")) {
+            existingConfiguration = configurationRepository.findById(id).orElse(null);
+        }
         if (existingConfiguration != null) {
             existingConfiguration.setData(newData.getData());
-            configurationRepository.save(existingConfiguration);
+            try (RequestTimings.Phase phase = RequestTimings.phase("db")) {
+                configurationRepository.save(existingConfiguration);
+            }
+            cache(existingConfiguration);
             return newData;
         }
         return null;
@@ -61,7 +87,7 @@ public class ConfigurationService {
      */
 
     public Map<String, Object> getConfigurationById(Long id, Long propertyId) {
-        Configuration configuration = configurationRepository.findById(id).orElse(null);
+        Configuration configuration = getConfiguration(id);
         if (configuration == null) {
             return null;
         }
@@ -95,7 +121,7 @@ public class ConfigurationService {
      */
 
     public Map<String, Object> getGlobalConfigurationData(Long id) {
-        Configuration configuration = configurationRepository.findById(id).orElse(null);
+        Configuration configuration = getConfiguration(id);
         if (configuration == null) {
             return null;
         }
@@ -105,6 +131,133 @@ public class ConfigurationService {
         return globalData != null ? globalData : new HashMap<>();
     }
 
+    /**
+     * Retrieve several configurations by ID. Fresh cached entries are served from memory and all
+     * misses and expired entries are loaded from the repository in a single query.
+     *
+     * @param ids The IDs of the configurations.
+     * @return The configurations found, keyed by ID.
+     */
+    public Map<Long, Configuration> getConfigurations(Collection<Long> ids) {
+        Map<Long, Configuration> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            CachedConfiguration cached = configurationCache.get(id);
+            if (isFresh(cached)) {
+                result.put(id, cached.configuration());
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            try (RequestTimings.Phase phase = RequestTimings.phase("db")) {
+                for (Configuration configuration : configurationRepository.findAllById(misses)) {
+                    result.put(configuration.getId(), cache(configuration));
+                }
+            }
+            for (Long id : misses) {
+                if (!result.containsKey(id)) {
+                    configurationCache.remove(id);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return a point-in-time copy of the cached configurations, keyed by configuration ID
+     */
+    public Map<Long, Configuration> getCachedConfigurations() {
+        Map<Long, Configuration> configurations = new HashMap<>();
+        configurationCache.forEach((id, cached) -> configurations.put(id, cached.configuration()));
+        return configurations;
+    }
+
+    /**
+     * Seeds the configuration cache, e.g. from a snapshot taken before a restart.
+     * Entries already present are kept, since they are at least as fresh. Seeded entries are
+     * served for one TTL, which covers the reconciliation run shortly after startup.
+     *
+     * @param configurations The configurations to seed, keyed by configuration ID.
+     */
+    public void restoreConfigurations(Map<Long, Configuration> configurations) {
+        long now = System.currentTimeMillis();
+        configurations.forEach((id, configuration) -> configurationCache.putIfAbsent(id, new CachedConfiguration(configuration, now)));
+    }
+
+    /**
+     * Drops every cached configuration, e.g. after configurations were written outside this service.
+     */
+    public void clearCachedConfigurations() {
+        configurationCache.clear();
+    }
 
+    /**
+     * Reloads every cached configuration from the repository in a single query,
+     * dropping entries that no longer exist.
+     */
+    public void refreshCachedConfigurations() {
+        List<Long> ids = List.copyOf(configurationCache.keySet());
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Long, Configuration> reloaded = new HashMap<>();
+        for (Configuration configuration : configurationRepository.findAllById(ids)) {
+            reloaded.put(configuration.getId(), configuration);
+        }
+        for (Long id : ids) {
+            Configuration configuration = reloaded.get(id);
+            if (configuration != null) {
+                cache(configuration);
+            } else {
+                configurationCache.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Retrieve a configuration by ID, served from the in-memory cache until it expires.
+     * The cached instance is replaced whenever a save, update or reload changes its data.
+     *
+     * @param id The ID of the configuration.
+     * @return The configuration, or null if no configuration with the given ID exists.
+     */
+    public Configuration getConfiguration(Long id) {
+        CachedConfiguration cached = configurationCache.get(id);
+        if (isFresh(cached)) {
+            return cached.configuration();
+        }
+        Configuration configuration;
+        try (RequestTimings.Phase phase = RequestTimings.phase("db")) {
+            configuration = configurationRepository.findById(id).orElse(null);
+        }
+        if (configuration == null) {
+            configurationCache.remove(id);
+            return null;
+        }
+        return cache(configuration);
+    }
+
+    private boolean isFresh(CachedConfiguration cached) {
+        return cached != null && System.currentTimeMillis() - cached.loadedAt() < ttlMillis;
+    }
+
+    /**
+     * Caches a configuration that was just written or loaded. If its data is unchanged, the cached
+     * instance is kept, so data derived from it by identity stays valid across reloads.
+     *
+     * @return The cached instance.
+     */
+    private Configuration cache(Configuration configuration) {
+        long now = System.currentTimeMillis();
+        return configurationCache.compute(configuration.getId(), (id, previous) ->
+                previous != null && Objects.equals(previous.configuration().getData(), configuration.getData())
+                        ? new CachedConfiguration(previous.configuration(), now)
+                        : new CachedConfiguration(configuration, now)
+        ).configuration();
+    }
+
+    private record CachedConfiguration(Configuration configuration, long loadedAt) {
+    }
 
 }
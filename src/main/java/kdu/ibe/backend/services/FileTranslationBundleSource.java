@@ -0,0 +1,36 @@
+package kdu.ibe.backend.services;
+
+import kdu.ibe.backend.models.TranslationBundle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads translation bundles from {@code <translations.directory>/<locale>.json}, standing in for
+ * blob storage in tests and local development. The ETag is derived from size and modification time.
+ * Selected by {@code translations.source=file}; see {@code TranslationConfig}.
+ */
+public class FileTranslationBundleSource implements TranslationBundleSource {
+
+    private final Path directory;
+
+    /**
+     * Constructor for FileTranslationBundleSource.
+     *
+     * @param directory The directory holding one JSON file per locale.
+     */
+    public FileTranslationBundleSource(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public TranslationBundle fetch(String locale, String etag) throws IOException {
+        Path file = directory.resolve(locale + ".json");
+        String currentEtag = "\"" + Files.size(file) + "-" + Files.getLastModifiedTime(file).toMillis() + "\"";
+        if (currentEtag.equals(etag)) {
+            return null;
+        }
+        return new TranslationBundle(locale, Files.readAllBytes(file), currentEtag);
+    }
+}
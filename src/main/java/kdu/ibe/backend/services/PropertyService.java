@@ -1,12 +1,11 @@
 package kdu.ibe.backend.services;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import kdu.ibe.backend.dto.response.GraphQLPropertiesResponse;
+import kdu.ibe.backend.dto.response.GraphQLRoomRatesResponse;
 import kdu.ibe.backend.models.Property;
-import kdu.ibe.backend.utils.ResponseParser;
 import kdu.ibe.backend.models.RoomRate;
+import kdu.ibe.backend.profiling.RequestTimings;
+import kdu.ibe.backend.utils.JsonCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
@@ -17,9 +16,12 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Service
 public class PropertyService {
@@ -30,55 +32,91 @@ public class PropertyService {
     private String baseUrl;
     @Value("${graphql_key}")
     private String graphQlKey;
+    @Value("${cache.properties.ttl-ms:300000}")
+    private long propertiesTtlMillis;
+    @Value("${cache.room-rates.max-entries:10000}")
+    private int roomRatesMaxEntries;
 
 private static final String QUERY = "{ listProperties (where: {property_id: {equals: %d}}){ room_type { room_rates { room_rate { basic_nightly_rate date room_rate_id } } } } }";
 
+private static final String QUERY_BATCH = "{ listProperties (where: {property_id: {in: [%s]}}){ property_id room_type { room_rates { room_rate { basic_nightly_rate date room_rate_id } } } } }";
+
 private static final String QUERY_PROPERTY = "{listProperties(where: {tenant_id: {equals: %d}}) {property_id property_name tenant_id}}";
 
+    private final JsonCodec jsonCodec;
+    private final Map<Long, List<RoomRate>> roomRateCache = new ConcurrentHashMap<>();
+    private final Map<Long, CachedProperties> propertiesCache = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for PropertyService.
+     *
+     * @param jsonCodec The shared codec used to decode GraphQL responses.
+     */
+    public PropertyService(JsonCodec jsonCodec) {
+        this.jsonCodec = jsonCodec;
+    }
+
     /**
-     * Method to execute graph QL query
-     * @return ResponseEntity<String>
+     * Fetches the room rates of a property from the GraphQL API, flattening them across room types.
+     *
+     * @param propertyId The ID of the property.
+     * @return The room rates of the property.
+     * @throws IOException if an error occurs while executing the GraphQL query
      */
+    private List<RoomRate> fetchRoomRates(Long propertyId) throws IOException {
+        GraphQLRoomRatesResponse response = readGraphQLRoomRates(postGraphQLQuery(String.format(QUERY, propertyId)));
+
+        List<RoomRate> roomRates = new ArrayList<>();
+        try (RequestTimings.Phase phase = RequestTimings.phase("rewrite")) {
+            if (response.data() != null && response.data().listProperties() != null) {
+                for (GraphQLRoomRatesResponse.PropertyNode propertyNode : response.data().listProperties()) {
+                    roomRates.addAll(flattenRoomRates(propertyNode));
+                }
+            }
+        }
+        return roomRates;
+    }
 
-    public ResponseEntity<String> executeGraphQLQuery(Long Id) throws IOException {
+    private GraphQLRoomRatesResponse readGraphQLRoomRates(byte[] body) throws IOException {
+        try (RequestTimings.Phase phase = RequestTimings.phase("parse")) {
+            return jsonCodec.readGraphQLRoomRates(body);
+        }
+    }
+
+    /**
+     * Flattens the room rates of a property node across room types.
+     * Nightly rates are truncated to whole numbers, matching the formatted GraphQL response.
+     */
+    private List<RoomRate> flattenRoomRates(GraphQLRoomRatesResponse.PropertyNode propertyNode) {
+        List<RoomRate> roomRates = new ArrayList<>();
+        if (propertyNode.room_type() == null) {
+            return roomRates;
+        }
+        for (GraphQLRoomRatesResponse.RoomTypeNode roomType : propertyNode.room_type()) {
+            if (roomType.room_rates() == null) {
+                continue;
+            }
+            for (GraphQLRoomRatesResponse.RoomRateNode roomRateNode : roomType.room_rates()) {
+                RoomRate rate = roomRateNode.room_rate();
+                if (rate != null) {
+                    roomRates.add(new RoomRate(rate.getDate(), (int) rate.getBasic_nightly_rate(), rate.getRoom_rate_id()));
+                }
+            }
+        }
+        return roomRates;
+    }
+
+    private byte[] postGraphQLQuery(String query) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.set("x-api-key", graphQlKey);
 
-        String query = String.format(QUERY, Id);
         String requestBody = "{ \"query\": \"" + query + "\" }";
 
         HttpEntity<String> requestEntity = new HttpEntity<>(requestBody, headers);
-        ResponseEntity<String> responseEntity = restTemplate.exchange(baseUrl, HttpMethod.POST, requestEntity, String.class);
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode rootNode = objectMapper.readTree(responseEntity.getBody());
-        JsonNode dataNode = rootNode.path("data");
-        JsonNode listPropertiesNode = dataNode.path("listProperties");
-
-        List<JsonNode> roomRates = new ArrayList<>();
-        for (JsonNode propertyNode : listPropertiesNode) {
-            JsonNode roomTypeNode = propertyNode.path("room_type");
-            for (JsonNode roomType : roomTypeNode) {
-                JsonNode roomRatesNode = roomType.path("room_rates");
-                for (JsonNode roomRate : roomRatesNode) {
-                    JsonNode rateNode = roomRate.path("room_rate");
-                    roomRates.add(rateNode);
-                }
-            }
-        }
-        ArrayNode formattedRoomRates = objectMapper.createArrayNode();
-        for (JsonNode roomRate : roomRates) {
-            ObjectNode formattedRate = objectMapper.createObjectNode();
-            formattedRate.put("date", roomRate.path("date").asText());
-            formattedRate.put("basic_nightly_rate", roomRate.path("basic_nightly_rate").asInt());
-            formattedRate.put("room_rate_id", roomRate.path("room_rate_id").asInt());
-            formattedRoomRates.add(formattedRate);
+        try (RequestTimings.Phase phase = RequestTimings.phase("graphql")) {
+            return restTemplate.exchange(baseUrl, HttpMethod.POST, requestEntity, byte[].class).getBody();
         }
-        String formattedRoomRatesJson = objectMapper.writeValueAsString(formattedRoomRates);
-
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        return new ResponseEntity<>(formattedRoomRatesJson, headers, HttpStatus.OK);
     }
 
 
@@ -94,24 +132,176 @@ private static final String QUERY_PROPERTY = "{listProperties(where: {tenant_id:
         LocalDate startDate = LocalDate.parse(startDateStr);
         LocalDate endDate = LocalDate.parse(endDateStr);
 
-        ResponseEntity<String> response = executeGraphQLQuery(Id);
-        List<RoomRate> roomRates = ResponseParser.parseRoomRates(response.getBody());
+        return getMinimumNightRate(getRoomRates(Id), startDate, endDate);
+    }
+
+    /**
+     * @param roomRates the room rates of a property
+     * @param startDate the first date of the range, inclusive
+     * @param endDate the last date of the range, inclusive
+     * @return a map of dates to the minimum nightly rate for each date within the specified range
+     */
+    public Map<LocalDate, Double> getMinimumNightRate(List<RoomRate> roomRates, LocalDate startDate, LocalDate endDate) {
         Map<LocalDate, Double> minNightRates = new HashMap<>();
 
-        for (RoomRate rate : roomRates) {
-            String dateString = rate.getDate().substring(0, 10);
-            LocalDate date = LocalDate.parse(dateString, DateTimeFormatter.ISO_LOCAL_DATE);
+        try (RequestTimings.Phase phase = RequestTimings.phase("aggregate")) {
+            for (RoomRate rate : roomRates) {
+                String dateString = rate.getDate().substring(0, 10);
+                LocalDate date = LocalDate.parse(dateString, DateTimeFormatter.ISO_LOCAL_DATE);
 
-            if (!date.isBefore(startDate) && !date.isAfter(endDate)) {
-                double nightRate = rate.getBasic_nightly_rate();
-                minNightRates.putIfAbsent(date, nightRate);
-                minNightRates.put(date, Math.min(minNightRates.get(date), nightRate));
+                if (!date.isBefore(startDate) && !date.isAfter(endDate)) {
+                    double nightRate = rate.getBasic_nightly_rate();
+                    minNightRates.putIfAbsent(date, nightRate);
+                    minNightRates.put(date, Math.min(minNightRates.get(date), nightRate));
+                }
             }
         }
 
         return minNightRates;
     }
 
+    /**
+     * Returns the room rates of a property, served from the in-memory cache when present.
+     *
+     * @param propertyId The ID of the property.
+     * @return The room rates of the property.
+     * @throws IOException if an error occurs while executing the GraphQL query
+     */
+    public List<RoomRate> getRoomRates(Long propertyId) throws IOException {
+        List<RoomRate> cached = roomRateCache.get(propertyId);
+        if (cached != null) {
+            return cached;
+        }
+        return refreshRoomRates(propertyId);
+    }
+
+    /**
+     * Returns the room rates of several properties. Cached entries are served from memory and all
+     * misses are fetched from the GraphQL API in a single query.
+     *
+     * @param propertyIds The IDs of the properties.
+     * @return The room rates keyed by property ID; properties without rates map to an empty list.
+     * @throws IOException if an error occurs while executing the GraphQL query
+     */
+    public Map<Long, List<RoomRate>> getRoomRates(Collection<Long> propertyIds) throws IOException {
+        Map<Long, List<RoomRate>> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long propertyId : propertyIds) {
+            List<RoomRate> cached = roomRateCache.get(propertyId);
+            if (cached != null) {
+                result.put(propertyId, cached);
+            } else {
+                misses.add(propertyId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            result.putAll(refreshRoomRates(misses));
+        }
+        return result;
+    }
+
+    /**
+     * Fetches the room rates of several properties from the GraphQL API in a single query and
+     * replaces their cached entries.
+     *
+     * @param propertyIds The IDs of the properties.
+     * @return The freshly fetched room rates keyed by property ID; properties without rates map to an empty list.
+     * @throws IOException if an error occurs while executing the GraphQL query
+     */
+    public Map<Long, List<RoomRate>> refreshRoomRates(Collection<Long> propertyIds) throws IOException {
+        String ids = propertyIds.stream().map(String::valueOf).collect(Collectors.joining(", "));
+        GraphQLRoomRatesResponse response = readGraphQLRoomRates(postGraphQLQuery(String.format(QUERY_BATCH, ids)));
+
+        Map<Long, List<RoomRate>> fetched = new HashMap<>();
+        try (RequestTimings.Phase phase = RequestTimings.phase("rewrite")) {
+            if (response.data() != null && response.data().listProperties() != null) {
+                for (GraphQLRoomRatesResponse.PropertyNode propertyNode : response.data().listProperties()) {
+                    fetched.computeIfAbsent(propertyNode.property_id(), id -> new ArrayList<>()).addAll(flattenRoomRates(propertyNode));
+                }
+            }
+        }
+        Map<Long, List<RoomRate>> result = new HashMap<>();
+        for (Long propertyId : propertyIds) {
+            List<RoomRate> roomRates = List.copyOf(fetched.getOrDefault(propertyId, List.of()));
+            cacheRoomRates(propertyId, roomRates);
+            result.put(propertyId, roomRates);
+        }
+        return result;
+    }
+
+    /**
+     * Fetches the room rates of a property from the GraphQL API and replaces the cached entry.
+     *
+     * @param propertyId The ID of the property.
+     * @return The freshly fetched room rates.
+     * @throws IOException if an error occurs while executing the GraphQL query
+     */
+    public List<RoomRate> refreshRoomRates(Long propertyId) throws IOException {
+        List<RoomRate> roomRates = List.copyOf(fetchRoomRates(propertyId));
+        cacheRoomRates(propertyId, roomRates);
+        return roomRates;
+    }
+
+    /**
+     * Stores the room rates of a property. Empty results are evicted rather than cached, so unknown
+     * property IDs are not kept forever, and new entries are skipped once the cache holds
+     * {@code cache.room-rates.max-entries} properties.
+     */
+    private void cacheRoomRates(Long propertyId, List<RoomRate> roomRates) {
+        if (roomRates.isEmpty()) {
+            roomRateCache.remove(propertyId);
+        } else if (roomRateCache.containsKey(propertyId) || roomRateCache.size() < roomRatesMaxEntries) {
+            roomRateCache.put(propertyId, roomRates);
+        }
+    }
+
+    /**
+     * @return a point-in-time copy of the cached room rates, keyed by property ID
+     */
+    public Map<Long, List<RoomRate>> getCachedRoomRates() {
+        return Map.copyOf(roomRateCache);
+    }
+
+    /**
+     * Seeds the room rate cache, e.g. from a snapshot taken before a restart.
+     * Entries already present are kept, since they are at least as fresh; empty entries and entries
+     * beyond {@code cache.room-rates.max-entries} are dropped.
+     *
+     * @param roomRates The room rates to seed, keyed by property ID.
+     */
+    public void restoreRoomRates(Map<Long, List<RoomRate>> roomRates) {
+        roomRates.forEach((propertyId, rates) -> {
+            if (!rates.isEmpty() && roomRateCache.size() < roomRatesMaxEntries) {
+                roomRateCache.putIfAbsent(propertyId, rates);
+            }
+        });
+    }
+
+    /**
+     * Returns the properties of a tenant, served from memory until the listing is older than
+     * {@code cache.properties.ttl-ms}. Empty listings are not cached, so unknown tenant IDs do not
+     * accumulate.
+     *
+     * @param tenantId The ID of the tenant.
+     * @return The properties of the tenant.
+     * @throws IOException If there is an error reading the response body.
+     */
+    public List<Property> getProperties(Long tenantId) throws IOException {
+        CachedProperties cached = propertiesCache.get(tenantId);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.fetchedAt() < propertiesTtlMillis) {
+            return cached.properties();
+        }
+        List<Property> fetched = executeGraphQLQueryProperty(tenantId).getBody();
+        List<Property> properties = fetched != null ? List.copyOf(fetched) : List.of();
+        if (properties.isEmpty()) {
+            propertiesCache.remove(tenantId);
+        } else {
+            propertiesCache.put(tenantId, new CachedProperties(properties, now));
+        }
+        return properties;
+    }
+
     /**
      * Executes a GraphQL query to fetch properties for a specific tenant.
      *
@@ -120,33 +310,22 @@ private static final String QUERY_PROPERTY = "{listProperties(where: {tenant_id:
      * @throws IOException If there is an error reading the response body.
      */
     public ResponseEntity<List<Property>> executeGraphQLQueryProperty(Long tenantId) throws IOException {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("x-api-key", graphQlKey);
-
-        String query = String.format(QUERY_PROPERTY, tenantId);
-        String requestBody = "{ \"query\": \"" + query + "\" }";
-
-        HttpEntity<String> requestEntity = new HttpEntity<>(requestBody, headers);
-        ResponseEntity<String> responseEntity = restTemplate.exchange(baseUrl, HttpMethod.POST, requestEntity, String.class);
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode rootNode = objectMapper.readTree(responseEntity.getBody());
-        JsonNode dataNode = rootNode.path("data");
-        JsonNode listPropertiesNode = dataNode.path("listProperties");
+        byte[] body = postGraphQLQuery(String.format(QUERY_PROPERTY, tenantId));
+        GraphQLPropertiesResponse response;
+        try (RequestTimings.Phase phase = RequestTimings.phase("parse")) {
+            response = jsonCodec.readGraphQLProperties(body);
+        }
 
         List<Property> properties = new ArrayList<>();
-        for (JsonNode propertyNode : listPropertiesNode) {
-            Long propertyId = propertyNode.path("property_id").asLong();
-            String propertyName = propertyNode.path("property_name").asText();
-
-            Property property = new Property(propertyId, tenantId.toString(), propertyName);
-            properties.add(property);
+        if (response.data() != null && response.data().listProperties() != null) {
+            for (GraphQLPropertiesResponse.PropertyNode propertyNode : response.data().listProperties()) {
+                Property property = new Property(propertyNode.property_id(), tenantId.toString(), propertyNode.property_name());
+                properties.add(property);
+            }
         }
         return new ResponseEntity<>(properties, HttpStatus.OK);
     }
 
-
+    private record CachedProperties(List<Property> properties, long fetchedAt) {
+    }
 }
-
-
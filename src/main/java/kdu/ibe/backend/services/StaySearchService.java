@@ -0,0 +1,108 @@
+package kdu.ibe.backend.services;
+
+import kdu.ibe.backend.dto.request.StaySearchRequestDto;
+import kdu.ibe.backend.dto.response.StaySearchResultDto;
+import kdu.ibe.backend.models.Property;
+import kdu.ibe.backend.models.RoomRate;
+import kdu.ibe.backend.utils.RateIndex;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service that finds the cheapest properties of a tenant for a stay.
+ * <p>
+ * Each property's rates are summarised in a {@link RateIndex}, rebuilt only when the cached room
+ * rates change, so pricing a stay is constant time per property and the tenant's properties are
+ * priced sequentially on the request thread. The tenant's property listing and room rates come from
+ * the caches of {@link PropertyService}, so a warm search makes no upstream call.
+ */
+@Service
+public class StaySearchService {
+    private static final int DEFAULT_LIMIT = 10;
+    private static final String SORT_BY_MINIMUM = "minimum";
+
+    private final PropertyService propertyService;
+    private final Map<Long, IndexedRates> rateIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for StaySearchService.
+     *
+     * @param propertyService The service providing properties and room rates.
+     */
+    public StaySearchService(PropertyService propertyService) {
+        this.propertyService = propertyService;
+    }
+
+    /**
+     * Finds the cheapest properties of a tenant that are available for every night of a stay.
+     *
+     * @param tenantId The ID of the tenant.
+     * @param request The stay dates, optional total price ceiling, result limit and sort order
+     *                ("total", the default, or "minimum" for the cheapest single night).
+     * @return Up to {@code limit} properties, cheapest first.
+     * @throws IOException If the properties or rates cannot be fetched.
+     * @throws IllegalArgumentException If the dates are missing or check-out is not after check-in.
+     */
+    public List<StaySearchResultDto> findCheapestStays(Long tenantId, StaySearchRequestDto request) throws IOException {
+        if (request.getCheckIn() == null || request.getCheckOut() == null) {
+            throw new IllegalArgumentException("checkIn and checkOut are required");
+        }
+        LocalDate checkIn = LocalDate.parse(request.getCheckIn());
+        LocalDate checkOut = LocalDate.parse(request.getCheckOut());
+        if (!checkOut.isAfter(checkIn)) {
+            throw new IllegalArgumentException("checkOut must be after checkIn");
+        }
+        int limit = request.getLimit() != null && request.getLimit() > 0 ? request.getLimit() : DEFAULT_LIMIT;
+        Comparator<StaySearchResultDto> order = SORT_BY_MINIMUM.equalsIgnoreCase(request.getSortBy())
+                ? Comparator.comparingDouble(StaySearchResultDto::getMinimumNightlyRate)
+                : Comparator.comparingDouble(StaySearchResultDto::getTotalPrice);
+
+        List<Property> properties = propertyService.getProperties(tenantId);
+        if (properties.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, List<RoomRate>> roomRates = propertyService.getRoomRates(
+                properties.stream().map(Property::getProperty_id).collect(Collectors.toList()));
+
+        return properties.stream()
+                .map(property -> priceStay(property, roomRates.get(property.getProperty_id()), checkIn, checkOut))
+                .filter(Objects::nonNull)
+                .filter(result -> request.getMaxPrice() == null || result.getTotalPrice() <= request.getMaxPrice())
+                .sorted(order)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private StaySearchResultDto priceStay(Property property, List<RoomRate> roomRates, LocalDate checkIn, LocalDate checkOut) {
+        if (roomRates == null) {
+            return null;
+        }
+        RateIndex.StayPrice price = rateIndex(property.getProperty_id(), roomRates).priceStay(checkIn, checkOut);
+        if (price == null) {
+            return null;
+        }
+        return new StaySearchResultDto(property.getProperty_id(), property.getProperty_name(), price.total(), price.minimumNightlyRate());
+    }
+
+    private RateIndex rateIndex(Long propertyId, List<RoomRate> roomRates) {
+        IndexedRates indexed = rateIndexes.get(propertyId);
+        if (indexed != null && indexed.source() == roomRates) {
+            return indexed.index();
+        }
+        RateIndex index = RateIndex.build(roomRates);
+        rateIndexes.put(propertyId, new IndexedRates(roomRates, index));
+        return index;
+    }
+
+    private record IndexedRates(List<RoomRate> source, RateIndex index) {
+    }
+}
@@ -0,0 +1,130 @@
+package kdu.ibe.backend.services;
+
+import kdu.ibe.backend.models.TranslationBundle;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Service that caches locale translation bundles and revalidates them against their source by
+ * ETag once they are older than the configured interval.
+ * <p>
+ * Expired bundles keep being served while a single background revalidation per locale runs, so
+ * expiry never blocks requests or sends concurrent fetches to the source. Only the first load of a
+ * locale is synchronous, and concurrent first requests share it. Failures are cached as well: the
+ * last known bundle, or none if the first load failed, is served until the source is retried after
+ * the configured backoff.
+ */
+@Service
+@Slf4j
+public class TranslationBundleService {
+
+    private final TranslationBundleSource translationBundleSource;
+    private final List<String> locales;
+    private final long revalidateAfterMillis;
+    private final long retryAfterMillis;
+    private final Executor revalidationExecutor;
+    private final Map<String, CachedBundle> bundleCache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<TranslationBundle>> revalidations = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for TranslationBundleService.
+     *
+     * @param translationBundleSource The source bundles are fetched from.
+     * @param locales The supported locales.
+     * @param revalidateAfterMillis How long a bundle is served before it is revalidated.
+     * @param retryAfterMillis How long to wait before retrying a failed fetch.
+     * @param revalidationExecutor The executor background revalidations run on.
+     */
+    public TranslationBundleService(TranslationBundleSource translationBundleSource,
+                                    @Value("${translations.locales:en,de}") List<String> locales,
+                                    @Value("${translations.revalidate-after-ms:300000}") long revalidateAfterMillis,
+                                    @Value("${translations.retry-after-ms:30000}") long retryAfterMillis,
+                                    @Qualifier("applicationTaskExecutor") Executor revalidationExecutor) {
+        this.translationBundleSource = translationBundleSource;
+        this.locales = locales;
+        this.revalidateAfterMillis = revalidateAfterMillis;
+        this.retryAfterMillis = retryAfterMillis;
+        this.revalidationExecutor = revalidationExecutor;
+    }
+
+    /**
+     * Returns the translation bundle of a locale. The returned instance stays the same until the
+     * bundle content changes, so callers may cache data derived from it by identity.
+     *
+     * @param locale The locale, e.g. "en".
+     * @return The bundle, or null if the locale is not supported or no bundle could be fetched yet.
+     */
+    public TranslationBundle getBundle(String locale) {
+        if (locale == null || !locales.contains(locale)) {
+            return null;
+        }
+        CachedBundle cached = bundleCache.get(locale);
+        boolean expired = cached != null && System.currentTimeMillis() >= cached.expiresAt();
+        if (cached == null || (expired && cached.bundle() == null)) {
+            return revalidate(locale, Runnable::run).join();
+        }
+        if (expired) {
+            revalidate(locale, revalidationExecutor);
+        }
+        return cached.bundle();
+    }
+
+    /**
+     * Starts a revalidation of a locale on the given executor, or joins the one already in flight.
+     */
+    private CompletableFuture<TranslationBundle> revalidate(String locale, Executor executor) {
+        CompletableFuture<TranslationBundle> revalidation = new CompletableFuture<>();
+        CompletableFuture<TranslationBundle> inFlight = revalidations.putIfAbsent(locale, revalidation);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    revalidation.complete(fetch(locale));
+                } finally {
+                    revalidations.remove(locale, revalidation);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Translation bundle revalidation for locale {} rejected", locale);
+            revalidations.remove(locale, revalidation);
+            CachedBundle cached = bundleCache.get(locale);
+            revalidation.complete(cached != null ? cached.bundle() : null);
+        }
+        return revalidation;
+    }
+
+    private TranslationBundle fetch(String locale) {
+        CachedBundle cached = bundleCache.get(locale);
+        TranslationBundle known = cached != null ? cached.bundle() : null;
+        long now = System.currentTimeMillis();
+        try {
+            TranslationBundle fetched = translationBundleSource.fetch(locale, known != null ? known.getEtag() : null);
+            TranslationBundle bundle = fetched != null ? fetched : known;
+            bundleCache.put(locale, new CachedBundle(bundle, now + revalidateAfterMillis));
+            return bundle;
+        } catch (IOException | RuntimeException e) {
+            log.error("Error revalidating translation bundle for locale {}", locale, e);
+            bundleCache.put(locale, new CachedBundle(known, now + retryAfterMillis));
+            return known;
+        }
+    }
+
+    /**
+     * A cached bundle, or a null bundle for a first load that failed, and the time after which the
+     * source is asked again.
+     */
+    private record CachedBundle(TranslationBundle bundle, long expiresAt) {
+    }
+}
@@ -0,0 +1,21 @@
+package kdu.ibe.backend.services;
+
+import kdu.ibe.backend.models.TranslationBundle;
+
+import java.io.IOException;
+
+/**
+ * Source of locale translation bundles, e.g. blob storage or a local directory.
+ */
+public interface TranslationBundleSource {
+
+    /**
+     * Fetches the translation bundle of a locale unless it is unchanged.
+     *
+     * @param locale The locale, e.g. "en".
+     * @param etag The ETag of the bundle the caller already holds, or null.
+     * @return The bundle, or null if it still matches the given ETag.
+     * @throws IOException If the bundle cannot be fetched.
+     */
+    TranslationBundle fetch(String locale, String etag) throws IOException;
+}
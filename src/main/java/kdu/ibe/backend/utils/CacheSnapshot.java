@@ -0,0 +1,171 @@
+package kdu.ibe.backend.utils;
+
+import kdu.ibe.backend.models.Configuration;
+import kdu.ibe.backend.models.RoomRate;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary snapshot of the in-memory room rate and configuration caches.
+ * <p>
+ * Layout: magic, version, creation time, then a block of room rates per property
+ * followed by a block of configurations whose jsonb data is stored as UTF-8 JSON.
+ * Counts and string lengths are stored as ints and checked against the file size on read.
+ * Snapshots are written to a temporary file and atomically moved into place, and
+ * read back through a memory-mapped buffer.
+ */
+public class CacheSnapshot {
+    private static final int MAGIC = 0x49424531;
+    private static final int VERSION = 2;
+
+    private final long createdAt;
+    private final Map<Long, List<RoomRate>> roomRates;
+    private final Map<Long, Configuration> configurations;
+
+    public CacheSnapshot(long createdAt, Map<Long, List<RoomRate>> roomRates, Map<Long, Configuration> configurations) {
+        this.createdAt = createdAt;
+        this.roomRates = roomRates;
+        this.configurations = configurations;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public Map<Long, List<RoomRate>> getRoomRates() {
+        return roomRates;
+    }
+
+    public Map<Long, Configuration> getConfigurations() {
+        return configurations;
+    }
+
+    /**
+     * Writes this snapshot to the given path, replacing any previous snapshot atomically.
+     *
+     * @param path The snapshot file location.
+     * @param jsonCodec The shared codec used to encode configuration data.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public void writeTo(Path path, JsonCodec jsonCodec) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try (OutputStream fileStream = Files.newOutputStream(tempFile);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileStream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(createdAt);
+
+            out.writeInt(roomRates.size());
+            for (Map.Entry<Long, List<RoomRate>> entry : roomRates.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (RoomRate rate : entry.getValue()) {
+                    writeString(out, rate.getDate());
+                    out.writeDouble(rate.getBasic_nightly_rate());
+                    out.writeInt(rate.getRoom_rate_id());
+                }
+            }
+
+            out.writeInt(configurations.size());
+            for (Map.Entry<Long, Configuration> entry : configurations.entrySet()) {
+                byte[] data = jsonCodec.writeConfigurationData(entry.getValue().getData()).getBytes(StandardCharsets.UTF_8);
+                out.writeLong(entry.getKey());
+                out.writeInt(data.length);
+                out.write(data);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a snapshot from the given path using memory-mapped I/O.
+     *
+     * @param path The snapshot file location.
+     * @param jsonCodec The shared codec used to decode configuration data.
+     * @return The decoded snapshot.
+     * @throws IOException If the file cannot be read or is not a valid snapshot.
+     */
+    public static CacheSnapshot readFrom(Path path, JsonCodec jsonCodec) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Unsupported cache snapshot format: " + path);
+            }
+            long createdAt = buffer.getLong();
+
+            int propertyCount = readLength(buffer);
+            Map<Long, List<RoomRate>> roomRates = new HashMap<>(propertyCount * 2);
+            for (int i = 0; i < propertyCount; i++) {
+                long propertyId = buffer.getLong();
+                int rateCount = readLength(buffer);
+                List<RoomRate> rates = new ArrayList<>(rateCount);
+                for (int j = 0; j < rateCount; j++) {
+                    String date = readString(buffer);
+                    double basicNightlyRate = buffer.getDouble();
+                    int roomRateId = buffer.getInt();
+                    rates.add(new RoomRate(date, basicNightlyRate, roomRateId));
+                }
+                roomRates.put(propertyId, List.copyOf(rates));
+            }
+
+            int configurationCount = readLength(buffer);
+            Map<Long, Configuration> configurations = new HashMap<>(configurationCount * 2);
+            for (int i = 0; i < configurationCount; i++) {
+                long id = buffer.getLong();
+                byte[] data = new byte[readLength(buffer)];
+                buffer.get(data);
+                configurations.put(id, new Configuration(id, jsonCodec.readConfigurationData(data)));
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Trailing data in cache snapshot: " + path);
+            }
+            return new CacheSnapshot(createdAt, roomRates, configurations);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt cache snapshot: " + path, e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readLength(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count or byte length, rejecting values the remaining bytes cannot possibly hold
+     * before anything is allocated for them.
+     */
+    private static int readLength(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalStateException("Invalid length " + length + " at offset " + (buffer.position() - Integer.BYTES));
+        }
+        return length;
+    }
+}
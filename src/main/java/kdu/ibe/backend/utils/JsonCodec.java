@@ -0,0 +1,172 @@
+package kdu.ibe.backend.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kdu.ibe.backend.dto.response.GraphQLPropertiesResponse;
+import kdu.ibe.backend.dto.response.GraphQLRoomRatesResponse;
+import kdu.ibe.backend.models.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Central JSON codec built once from the application ObjectMapper.
+ * <p>
+ * Holds pre-built readers and writers for the upstream GraphQL response shapes and the API payloads,
+ * so requests reuse Jackson's serializer and deserializer caches instead of bootstrapping a new
+ * ObjectMapper each time. Encode and decode times are recorded in the {@code ibe.json} timer.
+ */
+@Component
+public class JsonCodec {
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final Map<MediaType, ObjectMapper> objectMappers;
+    private final Map<MediaType, ObjectWriter> payloadWriters;
+    private final ObjectReader graphQLRoomRatesReader;
+    private final ObjectReader graphQLPropertiesReader;
+    private final ObjectReader configurationReader;
+    private final ObjectReader configurationDataReader;
+    private final ObjectWriter configurationDataWriter;
+    private final Timer decodeTimer;
+    private final Timer encodeTimer;
+
+    /**
+     * Constructor for JsonCodec.
+     *
+     * @param objectMapper The application ObjectMapper, also used as the base for the binary formats.
+     * @param meterRegistry The registry the codec timers are published to.
+     */
+    public JsonCodec(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMappers = Map.of(
+                MediaType.APPLICATION_JSON, objectMapper,
+                MediaType.APPLICATION_CBOR, objectMapper.copyWith(new CBORFactory()),
+                APPLICATION_SMILE, objectMapper.copyWith(new SmileFactory()));
+        TypeReference<Map<String, Object>> payloadType = new TypeReference<>() {};
+        this.payloadWriters = Map.of(
+                MediaType.APPLICATION_JSON, objectMappers.get(MediaType.APPLICATION_JSON).writerFor(payloadType),
+                MediaType.APPLICATION_CBOR, objectMappers.get(MediaType.APPLICATION_CBOR).writerFor(payloadType),
+                APPLICATION_SMILE, objectMappers.get(APPLICATION_SMILE).writerFor(payloadType));
+        this.graphQLRoomRatesReader = objectMapper.readerFor(GraphQLRoomRatesResponse.class);
+        this.graphQLPropertiesReader = objectMapper.readerFor(GraphQLPropertiesResponse.class);
+        this.configurationReader = objectMapper.readerFor(Configuration.class);
+        this.configurationDataReader = objectMapper.readerFor(payloadType);
+        this.configurationDataWriter = payloadWriters.get(MediaType.APPLICATION_JSON);
+        this.decodeTimer = Timer.builder("ibe.json").tag("operation", "decode").register(meterRegistry);
+        this.encodeTimer = Timer.builder("ibe.json").tag("operation", "encode").register(meterRegistry);
+    }
+
+    /**
+     * @param mediaType JSON, CBOR or Smile.
+     * @return the ObjectMapper for the given media type, sharing the application configuration
+     */
+    public ObjectMapper objectMapperFor(MediaType mediaType) {
+        return objectMappers.get(mediaType);
+    }
+
+    /**
+     * Decodes the upstream GraphQL response for the room rates of a property.
+     *
+     * @param body The raw response body.
+     * @return The typed response.
+     * @throws IOException If the body is not valid JSON.
+     */
+    public GraphQLRoomRatesResponse readGraphQLRoomRates(byte[] body) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return graphQLRoomRatesReader.readValue(body);
+        } finally {
+            decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Decodes the upstream GraphQL response for the properties of a tenant.
+     *
+     * @param body The raw response body.
+     * @return The typed response.
+     * @throws IOException If the body is not valid JSON.
+     */
+    public GraphQLPropertiesResponse readGraphQLProperties(byte[] body) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return graphQLPropertiesReader.readValue(body);
+        } finally {
+            decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Opens a streaming reader over newline-delimited configuration records.
+     *
+     * @param in The NDJSON input.
+     * @return An iterator decoding one configuration at a time.
+     * @throws IOException If the input cannot be read.
+     */
+    public MappingIterator<Configuration> readConfigurations(InputStream in) throws IOException {
+        return configurationReader.readValues(in);
+    }
+
+    /**
+     * Encodes the jsonb data of a configuration.
+     *
+     * @param data The configuration data.
+     * @return The JSON representation.
+     * @throws IOException If the data cannot be serialized.
+     */
+    public String writeConfigurationData(Map<String, Object> data) throws IOException {
+        return configurationDataWriter.writeValueAsString(data);
+    }
+
+    /**
+     * Decodes the jsonb data of a configuration.
+     *
+     * @param data The JSON representation.
+     * @return The configuration data.
+     * @throws IOException If the data is not valid JSON.
+     */
+    public Map<String, Object> readConfigurationData(byte[] data) throws IOException {
+        return configurationDataReader.readValue(data);
+    }
+
+    /**
+     * Creates a JSON generator for hand-written streaming output.
+     *
+     * @param out The output to write to; it is not closed when the generator is closed.
+     * @return The generator.
+     * @throws IOException If the generator cannot be created.
+     */
+    public JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return objectMappers.get(MediaType.APPLICATION_JSON).getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Encodes an API payload in the given media type.
+     *
+     * @param payload The payload to encode.
+     * @param mediaType JSON, CBOR or Smile.
+     * @return The encoded payload.
+     * @throws IOException If the payload cannot be serialized.
+     */
+    public byte[] writePayload(Map<String, Object> payload, MediaType mediaType) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return payloadWriters.get(mediaType).writeValueAsBytes(payload);
+        } finally {
+            encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package kdu.ibe.backend.utils;
+
+import kdu.ibe.backend.models.RoomRate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index over the minimum nightly rate of a property per date.
+ * <p>
+ * Prefix sums give the total price of any stay and a sparse table gives the cheapest night of any
+ * stay, both in constant time after a linear-logarithmic build.
+ */
+public class RateIndex {
+    private final LocalDate firstDate;
+    private final int days;
+    private final double[] prefixSums;
+    private final int[] prefixMissing;
+    private final double[][] sparseMin;
+
+    private RateIndex(LocalDate firstDate, double[] dailyRates) {
+        this.firstDate = firstDate;
+        this.days = dailyRates.length;
+        this.prefixSums = new double[days + 1];
+        this.prefixMissing = new int[days + 1];
+        for (int i = 0; i < days; i++) {
+            boolean missing = Double.isNaN(dailyRates[i]);
+            prefixSums[i + 1] = prefixSums[i] + (missing ? 0 : dailyRates[i]);
+            prefixMissing[i + 1] = prefixMissing[i] + (missing ? 1 : 0);
+        }
+
+        int levels = days == 0 ? 0 : 32 - Integer.numberOfLeadingZeros(days);
+        this.sparseMin = new double[levels][];
+        if (levels > 0) {
+            sparseMin[0] = dailyRates.clone();
+            for (int level = 1; level < levels; level++) {
+                int width = 1 << level;
+                double[] previous = sparseMin[level - 1];
+                double[] current = new double[days - width + 1];
+                for (int i = 0; i < current.length; i++) {
+                    current[i] = Math.min(previous[i], previous[i + width / 2]);
+                }
+                sparseMin[level] = current;
+            }
+        }
+    }
+
+    /**
+     * Builds an index from the room rates of a property, keeping the lowest rate per date.
+     *
+     * @param roomRates The room rates of the property.
+     * @return The index; dates without any rate make stays covering them unavailable.
+     */
+    public static RateIndex build(List<RoomRate> roomRates) {
+        Map<LocalDate, Double> minNightRates = new HashMap<>();
+        LocalDate first = null;
+        LocalDate last = null;
+        for (RoomRate rate : roomRates) {
+            LocalDate date = LocalDate.parse(rate.getDate().substring(0, 10), DateTimeFormatter.ISO_LOCAL_DATE);
+            minNightRates.merge(date, rate.getBasic_nightly_rate(), Math::min);
+            first = first == null || date.isBefore(first) ? date : first;
+            last = last == null || date.isAfter(last) ? date : last;
+        }
+        if (first == null) {
+            return new RateIndex(LocalDate.MIN, new double[0]);
+        }
+
+        double[] dailyRates = new double[(int) ChronoUnit.DAYS.between(first, last) + 1];
+        for (int i = 0; i < dailyRates.length; i++) {
+            dailyRates[i] = minNightRates.getOrDefault(first.plusDays(i), Double.NaN);
+        }
+        return new RateIndex(first, dailyRates);
+    }
+
+    /**
+     * Prices a stay at the cheapest available rate of each night.
+     *
+     * @param checkIn The check-in date, i.e. the first night.
+     * @param checkOut The check-out date, exclusive.
+     * @return The stay price, or null if any night of the stay has no rate.
+     */
+    public StayPrice priceStay(LocalDate checkIn, LocalDate checkOut) {
+        if (days == 0 || !checkOut.isAfter(checkIn)) {
+            return null;
+        }
+        long from = ChronoUnit.DAYS.between(firstDate, checkIn);
+        long to = ChronoUnit.DAYS.between(firstDate, checkOut);
+        if (from < 0 || to > days) {
+            return null;
+        }
+        int start = (int) from;
+        int end = (int) to;
+        if (prefixMissing[end] - prefixMissing[start] > 0) {
+            return null;
+        }
+
+        int level = 31 - Integer.numberOfLeadingZeros(end - start);
+        double minimum = Math.min(sparseMin[level][start], sparseMin[level][end - (1 << level)]);
+        return new StayPrice(prefixSums[end] - prefixSums[start], minimum);
+    }
+
+    /**
+     * Price of a stay.
+     *
+     * @param total The sum of the nightly rates.
+     * @param minimumNightlyRate The cheapest nightly rate of the stay.
+     */
+    public record StayPrice(double total, double minimumNightlyRate) {
+    }
+}
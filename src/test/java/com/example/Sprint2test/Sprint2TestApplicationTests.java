@@ -1,13 +0,0 @@
-package com.example.Sprint2test;
-
-import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
-
-@SpringBootTest
-class Sprint2TestApplicationTests {
-
-	@Test
-	void contextLoads() {
-	}
-
-}
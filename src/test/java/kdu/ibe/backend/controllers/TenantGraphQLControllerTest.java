@@ -0,0 +1,60 @@
+package kdu.ibe.backend.controllers;
+
+import kdu.ibe.backend.configurations.GraphQLConfig;
+import kdu.ibe.backend.models.Property;
+import kdu.ibe.backend.models.RoomRate;
+import kdu.ibe.backend.services.ConfigurationService;
+import kdu.ibe.backend.services.PropertyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.test.tester.GraphQlTester;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@GraphQlTest(TenantGraphQLController.class)
+@Import(GraphQLConfig.class)
+class TenantGraphQLControllerTest {
+
+	@Autowired
+	private GraphQlTester graphQlTester;
+
+	@MockBean
+	private PropertyService propertyService;
+
+	@MockBean
+	private ConfigurationService configurationService;
+
+	@Test
+	void testCalendar_LoadsRoomRatesOfAllPropertiesInOneBatch() throws Exception {
+		given(propertyService.getProperties(1L)).willReturn(List.of(
+				new Property(10L, "1", "Team 10 Hotel"),
+				new Property(11L, "1", "Team 10 Resort")));
+		given(propertyService.getRoomRates(Set.of(10L, 11L))).willReturn(Map.of(
+				10L, List.of(new RoomRate("2024-03-01T00:00:00.000Z", 100.0, 1)),
+				11L, List.of(new RoomRate("2024-03-01T00:00:00.000Z", 90.0, 2))));
+		given(propertyService.getMinimumNightRate(anyList(), any(), any())).willCallRealMethod();
+
+		graphQlTester.document("""
+						{ tenant(id: 1) { properties { property_id
+						  calendar(startDate: "2024-03-01", endDate: "2024-03-02") { date minimumRate } } } }
+						""")
+				.execute()
+				.path("tenant.properties[0].calendar[0].minimumRate").entity(Double.class).isEqualTo(100.0)
+				.path("tenant.properties[1].calendar[0].minimumRate").entity(Double.class).isEqualTo(90.0);
+
+		verify(propertyService).getRoomRates(Set.of(10L, 11L));
+		verify(propertyService, never()).getRoomRates(anyLong());
+	}
+}
@@ -0,0 +1,92 @@
+package kdu.ibe.backend.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ServerTimingFilterTest {
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		ServerTimingFilter filter = new ServerTimingFilter();
+		ReflectionTestUtils.setField(filter, "serverTimingEnabled", true);
+		mockMvc = MockMvcBuilders.standaloneSetup(new TimedController()).addFilters(filter).build();
+	}
+
+	@Test
+	void testSyncResponse_HasBodyAndServerTiming() throws Exception {
+		mockMvc.perform(get("/sync"))
+				.andExpect(status().isOk())
+				.andExpect(content().string("sync"))
+				.andExpect(header().exists("Server-Timing"));
+	}
+
+	@Test
+	void testAsyncResponse_BodyIsCopiedAfterAsyncDispatch() throws Exception {
+		MvcResult result = mockMvc.perform(get("/async"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(content().string("async"))
+				.andExpect(header().exists("Server-Timing"));
+	}
+
+	@Test
+	void testStreamedResponse_IsWrittenWithoutBuffering() throws Exception {
+		MvcResult result = mockMvc.perform(get("/stream"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		result.getAsyncResult();
+
+		assertEquals("line 1\nline 2\n", result.getResponse().getContentAsString());
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(content().string("line 1\nline 2\n"));
+	}
+
+	@RestController
+	static class TimedController {
+
+		@GetMapping("/sync")
+		String sync() {
+			return "sync";
+		}
+
+		@GetMapping("/async")
+		Callable<String> async() {
+			return () -> "async";
+		}
+
+		@GetMapping("/stream")
+		StreamingResponseBody stream(HttpServletRequest request) {
+			ServerTimingFilter.disableBuffering(request);
+			return out -> {
+				out.write("line 1\n".getBytes(StandardCharsets.UTF_8));
+				out.write("line 2\n".getBytes(StandardCharsets.UTF_8));
+			};
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package kdu.ibe.backend.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kdu.ibe.backend.controllers.ConfigurationController;
+import kdu.ibe.backend.utils.JsonCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ConfigurationBulkServiceTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final ConfigurationService configurationService = mock(ConfigurationService.class);
+	private final JsonCodec jsonCodec = new JsonCodec(new ObjectMapper(), new SimpleMeterRegistry());
+	private final ConfigurationBulkService service = new ConfigurationBulkService(
+			jdbcTemplate, transactionManager, configurationService, jsonCodec, 2, 500);
+
+	@BeforeEach
+	void setUp() {
+		given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+	}
+
+	@Test
+	void testImportConfigurations_UpsertsInBatchesOfBatchSize() throws Exception {
+		long imported = service.importConfigurations(ndjson("""
+				{"id":1,"data":{"currency":"USD"}}
+				{"id":2,"data":{"currency":"EUR"}}
+				{"id":3,"data":{"currency":"INR"}}
+				"""));
+
+		List<List<Object[]>> batches = captureBatches(2);
+		assertEquals(3, imported);
+		assertEquals(2, batches.get(0).size());
+		assertArrayEquals(new Object[]{1L, "{\"currency\":\"USD\"}"}, batches.get(0).get(0));
+		assertArrayEquals(new Object[]{2L, "{\"currency\":\"EUR\"}"}, batches.get(0).get(1));
+		assertEquals(1, batches.get(1).size());
+		assertArrayEquals(new Object[]{3L, "{\"currency\":\"INR\"}"}, batches.get(1).get(0));
+		verify(transactionManager).commit(any());
+		verify(configurationService).clearCachedConfigurations();
+	}
+
+	@Test
+	void testImportConfigurations_LastRecordOfADuplicateIdWins() throws Exception {
+		service.importConfigurations(ndjson("""
+				{"id":1,"data":{"currency":"USD"}}
+				{"id":1,"data":{"currency":"EUR"}}
+				{"id":2,"data":{"currency":"INR"}}
+				"""));
+
+		List<Object[]> batch = captureBatches(1).get(0);
+		assertEquals(2, batch.size());
+		assertArrayEquals(new Object[]{1L, "{\"currency\":\"EUR\"}"}, batch.get(0));
+		assertArrayEquals(new Object[]{2L, "{\"currency\":\"INR\"}"}, batch.get(1));
+	}
+
+	@Test
+	void testImportConfigurations_InvalidRecordRollsBack() {
+		String body = """
+				{"id":1,"data":{"currency":"USD"}}
+				{"id":2,"data":{"currency":"EUR"}}
+				{"id":3}
+				""";
+
+		assertThrows(IllegalArgumentException.class, () -> service.importConfigurations(ndjson(body)));
+
+		verify(transactionManager).rollback(any());
+		verify(transactionManager, never()).commit(any());
+		verify(configurationService).clearCachedConfigurations();
+	}
+
+	@Test
+	void testImportEndpoint_InvalidRecordIsBadRequest() throws Exception {
+		ConfigurationController controller = new ConfigurationController();
+		ReflectionTestUtils.setField(controller, "configurationBulkService", service);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+		mockMvc.perform(post("/api/v1/configuration/bulk")
+						.contentType(MediaType.APPLICATION_NDJSON)
+						.content("{\"id\":1,\"data\":{\"currency\":\"USD\"}}\n{\"data\":{}}\n"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(post("/api/v1/configuration/bulk")
+						.contentType(MediaType.APPLICATION_NDJSON)
+						.content("{\"id\":1,\"data\":\n"))
+				.andExpect(status().isBadRequest());
+
+		verify(transactionManager, times(2)).rollback(any());
+	}
+
+	@Test
+	void testExportConfigurations_WritesOneRecordPerLine() throws Exception {
+		ResultSet rs = mock(ResultSet.class);
+		given(rs.getLong("id")).willReturn(1L, 2L);
+		given(rs.getString("data")).willReturn("{\"currency\":\"USD\"}", (String) null);
+		given(rs.getRow()).willReturn(1, 2);
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(1);
+			handler.processRow(rs);
+			handler.processRow(rs);
+			return null;
+		}).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		service.exportConfigurations(out);
+
+		assertEquals("{\"id\":1,\"data\":{\"currency\":\"USD\"}}\n{\"id\":2,\"data\":null}\n",
+				out.toString(StandardCharsets.UTF_8));
+	}
+
+	private static ByteArrayInputStream ndjson(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<List<Object[]>> captureBatches(int count) {
+		ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate, times(count)).batchUpdate(anyString(), batches.capture());
+		return batches.getAllValues();
+	}
+}
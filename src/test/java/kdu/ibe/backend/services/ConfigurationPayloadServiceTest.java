@@ -0,0 +1,34 @@
+package kdu.ibe.backend.services;
+
+import kdu.ibe.backend.utils.JsonCodec;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConfigurationPayloadServiceTest {
+
+	private final ConfigurationPayloadService service = new ConfigurationPayloadService(null, null, null);
+
+	@Test
+	void testSelectMediaType_PrefersJsonAndHonoursQuality() {
+		assertEquals(MediaType.APPLICATION_JSON, service.selectMediaType("*/*"));
+		assertEquals(MediaType.APPLICATION_CBOR, service.selectMediaType("application/cbor"));
+		assertEquals(JsonCodec.APPLICATION_SMILE, service.selectMediaType("application/json;q=0.5, application/x-jackson-smile"));
+	}
+
+	@Test
+	void testSelectMediaType_ZeroQualityRefusesType() {
+		assertEquals(MediaType.APPLICATION_CBOR, service.selectMediaType("application/json;q=0, application/x-jackson-smile;q=0, */*"));
+		assertNull(service.selectMediaType("application/cbor;q=0"));
+		assertNull(service.selectMediaType("text/html"));
+	}
+
+	@Test
+	void testSelectMediaType_MalformedHeader() {
+		assertThrows(InvalidMediaTypeException.class, () -> service.selectMediaType("json"));
+	}
+}
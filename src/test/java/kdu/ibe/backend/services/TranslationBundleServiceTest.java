@@ -0,0 +1,100 @@
+package kdu.ibe.backend.services;
+
+import kdu.ibe.backend.models.TranslationBundle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TranslationBundleServiceTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testGetBundle_ServedFromCacheUntilRevalidation() throws Exception {
+		Path file = Files.writeString(directory.resolve("en.json"), "{\"title\":\"Book\"}");
+		TranslationBundleService service = new TranslationBundleService(
+				new FileTranslationBundleSource(directory), List.of("en", "de"), 60_000, 60_000, Runnable::run);
+
+		TranslationBundle bundle = service.getBundle("en");
+		Files.writeString(file, "{\"title\":\"Reserve\"}");
+
+		assertEquals("{\"title\":\"Book\"}", new String(bundle.getJson(), StandardCharsets.UTF_8));
+		assertSame(bundle, service.getBundle("en"));
+	}
+
+	@Test
+	void testGetBundle_RevalidatesByEtag() throws Exception {
+		Path file = Files.writeString(directory.resolve("de.json"), "{\"title\":\"Buchen\"}");
+		TranslationBundleService service = new TranslationBundleService(
+				new FileTranslationBundleSource(directory), List.of("en", "de"), 0, 0, Runnable::run);
+
+		TranslationBundle bundle = service.getBundle("de");
+		assertSame(bundle, service.getBundle("de"));
+
+		Files.writeString(file, "{\"title\":\"Reservieren\"}");
+		Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+		assertSame(bundle, service.getBundle("de"));
+		TranslationBundle updated = service.getBundle("de");
+
+		assertNotSame(bundle, updated);
+		assertEquals("{\"title\":\"Reservieren\"}", new String(updated.getJson(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void testGetBundle_ServesStaleBundleDuringSingleRevalidation() throws Exception {
+		Files.writeString(directory.resolve("en.json"), "{\"title\":\"Book\"}");
+		FileTranslationBundleSource files = new FileTranslationBundleSource(directory);
+		AtomicInteger fetches = new AtomicInteger();
+		List<Runnable> revalidations = new ArrayList<>();
+		TranslationBundleService service = new TranslationBundleService((locale, etag) -> {
+			fetches.incrementAndGet();
+			return files.fetch(locale, etag);
+		}, List.of("en", "de"), 0, 0, revalidations::add);
+
+		TranslationBundle bundle = service.getBundle("en");
+		assertSame(bundle, service.getBundle("en"));
+		assertSame(bundle, service.getBundle("en"));
+
+		assertEquals(1, fetches.get());
+		assertEquals(1, revalidations.size());
+		revalidations.get(0).run();
+		assertEquals(2, fetches.get());
+	}
+
+	@Test
+	void testGetBundle_FailedFirstLoadIsNotRefetchedUntilRetry() {
+		AtomicInteger fetches = new AtomicInteger();
+		TranslationBundleService service = new TranslationBundleService((locale, etag) -> {
+			fetches.incrementAndGet();
+			throw new IOException("Blob store unavailable");
+		}, List.of("en", "de"), 60_000, 60_000, Runnable::run);
+
+		assertNull(service.getBundle("en"));
+		assertNull(service.getBundle("en"));
+
+		assertEquals(1, fetches.get());
+	}
+
+	@Test
+	void testGetBundle_UnsupportedOrMissingLocale() {
+		TranslationBundleService service = new TranslationBundleService(
+				new FileTranslationBundleSource(directory), List.of("en", "de"), 0, 0, Runnable::run);
+
+		assertNull(service.getBundle("fr"));
+		assertNull(service.getBundle("en"));
+	}
+}
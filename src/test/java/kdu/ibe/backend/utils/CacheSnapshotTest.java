@@ -0,0 +1,82 @@
+package kdu.ibe.backend.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kdu.ibe.backend.models.Configuration;
+import kdu.ibe.backend.models.RoomRate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CacheSnapshotTest {
+
+	@TempDir
+	Path directory;
+
+	private final JsonCodec jsonCodec = new JsonCodec(new ObjectMapper(), new SimpleMeterRegistry());
+
+	private final CacheSnapshot snapshot = new CacheSnapshot(1_709_251_200_000L,
+			Map.of(10L, List.of(
+					new RoomRate("2024-03-01T00:00:00.000Z", 90.0, 1),
+					new RoomRate("2024-03-02T00:00:00.000Z", 120.0, 2)),
+					11L, List.of()),
+			Map.of(1L, new Configuration(1L, Map.of(
+					"global", Map.of("currency", "USD"),
+					"properties", Map.of("10", Map.of("name", "Team 10 Hotel"))))));
+
+	@Test
+	void testWriteTo_ReadFromRoundTrip() throws Exception {
+		Path path = directory.resolve("cache/ibe-cache.snapshot");
+		snapshot.writeTo(path, jsonCodec);
+
+		CacheSnapshot restored = CacheSnapshot.readFrom(path, jsonCodec);
+
+		assertEquals(snapshot.getCreatedAt(), restored.getCreatedAt());
+		assertEquals(snapshot.getRoomRates(), restored.getRoomRates());
+		assertEquals(snapshot.getConfigurations(), restored.getConfigurations());
+	}
+
+	@Test
+	void testWriteTo_LongStringsAreNotTruncated() throws Exception {
+		String date = "2024-03-01" + "x".repeat(70_000);
+		Path path = directory.resolve("long.snapshot");
+		new CacheSnapshot(0L, Map.of(10L, List.of(new RoomRate(date, 90.0, 1))), Map.of()).writeTo(path, jsonCodec);
+
+		assertEquals(date, CacheSnapshot.readFrom(path, jsonCodec).getRoomRates().get(10L).get(0).getDate());
+	}
+
+	@Test
+	void testReadFrom_RejectsTruncatedSnapshot() throws Exception {
+		Path path = directory.resolve("truncated.snapshot");
+		snapshot.writeTo(path, jsonCodec);
+		byte[] bytes = Files.readAllBytes(path);
+		Files.write(path, Arrays.copyOf(bytes, bytes.length - 5));
+
+		assertThrows(IOException.class, () -> CacheSnapshot.readFrom(path, jsonCodec));
+	}
+
+	@Test
+	void testReadFrom_RejectsCorruptSnapshot() throws Exception {
+		Path badMagic = Files.write(directory.resolve("magic.snapshot"), new byte[]{1, 2, 3, 4, 0, 0, 0, 2});
+		assertThrows(IOException.class, () -> CacheSnapshot.readFrom(badMagic, jsonCodec));
+
+		Path badLength = directory.resolve("length.snapshot");
+		snapshot.writeTo(badLength, jsonCodec);
+		byte[] bytes = Files.readAllBytes(badLength);
+		bytes[16] = (byte) 0x7f;
+		Files.write(badLength, bytes);
+		assertThrows(IOException.class, () -> CacheSnapshot.readFrom(badLength, jsonCodec));
+
+		Path empty = Files.write(directory.resolve("empty.snapshot"), new byte[0]);
+		assertThrows(IOException.class, () -> CacheSnapshot.readFrom(empty, jsonCodec));
+	}
+}
@@ -0,0 +1,45 @@
+package kdu.ibe.backend.utils;
+
+import kdu.ibe.backend.models.RoomRate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateIndexTest {
+
+	private final RateIndex rateIndex = RateIndex.build(List.of(
+			new RoomRate("2024-03-01T00:00:00.000Z", 100.0, 1),
+			new RoomRate("2024-03-01T00:00:00.000Z", 90.0, 2),
+			new RoomRate("2024-03-02T00:00:00.000Z", 120.0, 3),
+			new RoomRate("2024-03-03T00:00:00.000Z", 80.0, 4),
+			new RoomRate("2024-03-04T00:00:00.000Z", 130.0, 5),
+			new RoomRate("2024-03-06T00:00:00.000Z", 110.0, 6)));
+
+	@Test
+	void testPriceStay_UsesCheapestRatePerNight() {
+		RateIndex.StayPrice price = rateIndex.priceStay(LocalDate.parse("2024-03-01"), LocalDate.parse("2024-03-05"));
+
+		assertEquals(420.0, price.total());
+		assertEquals(80.0, price.minimumNightlyRate());
+	}
+
+	@Test
+	void testPriceStay_CheckOutNightIsExcluded() {
+		RateIndex.StayPrice price = rateIndex.priceStay(LocalDate.parse("2024-03-02"), LocalDate.parse("2024-03-03"));
+
+		assertEquals(120.0, price.total());
+		assertEquals(120.0, price.minimumNightlyRate());
+	}
+
+	@Test
+	void testPriceStay_UnavailableNights() {
+		assertNull(rateIndex.priceStay(LocalDate.parse("2024-03-04"), LocalDate.parse("2024-03-07")));
+		assertNull(rateIndex.priceStay(LocalDate.parse("2024-02-28"), LocalDate.parse("2024-03-02")));
+		assertNull(rateIndex.priceStay(LocalDate.parse("2024-03-06"), LocalDate.parse("2024-03-08")));
+		assertNull(RateIndex.build(List.of()).priceStay(LocalDate.parse("2024-03-01"), LocalDate.parse("2024-03-02")));
+	}
+}